@@ -0,0 +1,21 @@
+package com.ivay.cache;
+
+import java.util.Map;
+
+import com.ivay.dtos.cachedto.CacheStatsDto;
+
+/**
+ * Implemented by components that own in-memory caches so their
+ * statistics can be reported through a single endpoint.
+ *
+ * @since 1.0.0
+ */
+public interface CacheStatsSource {
+
+    /**
+     * Returns a snapshot of the statistics of every cache owned by the component.
+     *
+     * @return statistics keyed by cache name
+     */
+    Map<String, CacheStatsDto> getCacheStats();
+}
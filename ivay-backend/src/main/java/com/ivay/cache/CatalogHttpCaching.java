@@ -0,0 +1,77 @@
+package com.ivay.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support for the public catalog endpoints.
+ *
+ * Validators come from the in-memory {@link CatalogVersion} and
+ * {@link StockEpoch}: the ETag combines both and Last-Modified is the later
+ * of the times they were reached. Both are known without loading anything,
+ * so a request whose If-None-Match or If-Modified-Since still matches is
+ * answered 304 before the service, its caches or MySQL are involved. Both
+ * are persisted and shared by every instance, so any catalog write or
+ * placed order changes the ETag of every catalog resource, since their
+ * responses carry stock; an instance sees another instance's write within
+ * the catalog version sync delay.
+ *
+ * The ETag is weak because the response envelope carries a per-response
+ * timestamp, so two 200 responses for the same version are equivalent but
+ * not byte-identical. The Cache-Control header is public with a short shared
+ * max-age, letting a reverse proxy serve anonymous traffic and revalidate
+ * cheaply once it expires.
+ *
+ * @since 1.0.0
+ */
+@Component
+public class CatalogHttpCaching {
+
+    private final CatalogVersion catalogVersion;
+    private final StockEpoch stockEpoch;
+    private final CacheControl cacheControl;
+
+    public CatalogHttpCaching(
+            CatalogVersion catalogVersion,
+            StockEpoch stockEpoch,
+            @Value("${catalog.http.max-age:PT0S}") Duration maxAge,
+            @Value("${catalog.http.shared-max-age:PT30S}") Duration sharedMaxAge) {
+        this.catalogVersion = catalogVersion;
+        this.stockEpoch = stockEpoch;
+        this.cacheControl = CacheControl.maxAge(maxAge)
+            .sMaxAge(sharedMaxAge)
+            .cachePublic();
+    }
+
+    /**
+     * Answers 304 if the client's copy is current, otherwise 200 with the body.
+     * The ETag and Last-Modified headers are set on the response in both cases.
+     *
+     * The version and epoch are read before the body is loaded, so a write
+     * committing in between can only make the body newer than its ETag; the
+     * next request then gets a fresh 200 rather than a stale 304.
+     *
+     * @param request the current request
+     * @param body    loads the response body, only called on a 200
+     * @param <T>     type of the body
+     * @return the response
+     */
+    public <T> ResponseEntity<T> ok(WebRequest request, Supplier<T> body) {
+        String eTag = "W/\"catalog-" + catalogVersion.current() + "-" + stockEpoch.current() + "\"";
+        Instant catalogModified = catalogVersion.lastModified();
+        Instant stockModified = stockEpoch.lastModified();
+        Instant lastModified = stockModified.isAfter(catalogModified) ? stockModified : catalogModified;
+        if (request.checkNotModified(eTag, lastModified.toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+    }
+}
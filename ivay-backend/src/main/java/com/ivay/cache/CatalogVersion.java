@@ -0,0 +1,61 @@
+package com.ivay.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the latest catalog version this instance has seen.
+ *
+ * Advanced by the catalog change tracking after each committed product,
+ * category or supplier write, and periodically from the database to pick up
+ * writes made by other instances. Caches of derived results, such as search
+ * results, include the version in their keys, so advancing it makes every
+ * earlier entry unreachable without having to work out which queries a
+ * write affects. It also backs the HTTP validators of the catalog endpoints.
+ *
+ * @since 1.0.0
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Instant lastModified = Instant.now();
+
+    /**
+     * Returns the latest catalog version seen.
+     *
+     * @return the version
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Returns when this instance first saw the current version. Never earlier
+     * than the actual write, so it is safe to use as a Last-Modified date.
+     *
+     * @return the time the version last advanced, or the start time
+     */
+    public Instant lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Moves the version forward; older values are ignored, so callers
+     * finishing out of order never move it back.
+     *
+     * @param newVersion a committed catalog version
+     * @return true if the version advanced
+     */
+    public boolean advanceTo(long newVersion) {
+        long previous = version.getAndAccumulate(newVersion, Math::max);
+        if (newVersion <= previous) {
+            return false;
+        }
+        lastModified = Instant.now();
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ivay.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ivay.dtos.cachedto.CacheStatsDto;
+import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.util.TransactionCallbacks;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of the public product catalog.
+ *
+ * Holds product DTOs by id and the full product list, each in a bounded
+ * Caffeine cache (W-TinyLFU admission, size
+ * and TTL eviction). Values are loaded through the callbacks supplied by the
+ * services, so a miss costs exactly what the uncached call did.
+ *
+ * Writers invalidate the affected entries once their transaction commits;
+ * invalidating earlier would let a concurrent reader cache the old row again.
+ * Cached DTOs are shared between requests and must not be modified by callers.
+ *
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class ProductCatalogCache implements CacheStatsSource {
+
+    private static final String ALL_PRODUCTS_KEY = "all";
+
+    private final Cache<Long, ProductResponseDto> productsById;
+    private final Cache<String, List<ProductResponseDto>> allProducts;
+
+    public ProductCatalogCache(
+            @Value("${catalog.cache.max-products:10000}") long maxProducts,
+            @Value("${catalog.cache.ttl:PT10M}") Duration ttl) {
+        this.productsById = Caffeine.newBuilder()
+            .maximumSize(maxProducts)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.allProducts = Caffeine.newBuilder()
+            .maximumSize(1)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached product or loads it. Exceptions thrown by the
+     * loader (e.g. not found) are propagated and nothing is cached.
+     *
+     * @param productId the id of the product
+     * @param loader    loads the product on a miss
+     * @return the product DTO
+     */
+    public ProductResponseDto getProduct(Long productId, Function<Long, ProductResponseDto> loader) {
+        return productsById.get(productId, loader);
+    }
+
+    /**
+     * Returns the cached products for the given ids, loading all misses with
+     * a single call. Ids the loader does not return are absent from the result.
+     *
+     * @param productIds the ids of the products
+     * @param loader     loads the missing products, keyed by id
+     * @return the found products keyed by id
+     */
+    public Map<Long, ProductResponseDto> getProducts(
+            Collection<Long> productIds,
+            Function<Set<Long>, Map<Long, ProductResponseDto>> loader) {
+        return productsById.getAll(productIds, missing -> loader.apply(Set.copyOf(missing)));
+    }
+
+    /**
+     * Returns the cached list of every product or loads it.
+     *
+     * @param loader loads the list on a miss
+     * @return an unmodifiable list of product DTOs
+     */
+    public List<ProductResponseDto> getAllProducts(Supplier<List<ProductResponseDto>> loader) {
+        return allProducts.get(ALL_PRODUCTS_KEY, key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Invalidates the given products and the full product list once the
+     * current transaction commits.
+     *
+     * @param productIds ids of the products that changed
+     */
+    public void evictProducts(Collection<Long> productIds) {
+        List<Long> products = List.copyOf(productIds);
+        TransactionCallbacks.afterCommit(() -> {
+            productsById.invalidateAll(products);
+            allProducts.invalidateAll();
+            log.debug("Evicted products {} from catalog cache", products);
+        });
+    }
+
+    /**
+     * Drops every entry, for writes this instance was not told about,
+     * such as those committed by another instance.
+     */
+    public void invalidateAll() {
+        productsById.invalidateAll();
+        allProducts.invalidateAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, CacheStatsDto> getCacheStats() {
+        Map<String, CacheStatsDto> stats = new LinkedHashMap<>();
+        stats.put("productsById", CacheStatsDto.of(productsById));
+        stats.put("allProducts", CacheStatsDto.of(allProducts));
+        return stats;
+    }
+}
@@ -0,0 +1,118 @@
+package com.ivay.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ivay.dtos.cachedto.CacheStatsDto;
+import com.ivay.dtos.categorydto.CategoryResponseDto;
+import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.search.SearchText;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of product and category name search results.
+ *
+ * Entries are keyed by the {@link CatalogVersion}, the {@link StockEpoch},
+ * the normalized query (trimmed, lower-cased, accent-folded, inner
+ * whitespace collapsed) and the search options, so "  Portátil" and
+ * "portatil" share one entry and any committed catalog write or placed
+ * order makes all earlier entries, whose products carry stock, unreachable;
+ * they then age out through the size bound and the TTL.
+ *
+ * Concurrent misses on the same key are coalesced: Caffeine runs the loader
+ * once and the other callers wait for its result. Exceptions are propagated
+ * to every waiting caller and nothing is cached.
+ * Cached lists are shared between requests and must not be modified by callers.
+ *
+ * @since 1.0.0
+ */
+@Component
+public class SearchResultCache implements CacheStatsSource {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final CatalogVersion catalogVersion;
+    private final StockEpoch stockEpoch;
+    private final Cache<String, List<ProductResponseDto>> productResults;
+    private final Cache<String, List<CategoryResponseDto>> categoryResults;
+
+    public SearchResultCache(
+            CatalogVersion catalogVersion,
+            StockEpoch stockEpoch,
+            @Value("${search.cache.max-entries:1000}") long maxEntries,
+            @Value("${search.cache.ttl:PT30S}") Duration ttl) {
+        this.catalogVersion = catalogVersion;
+        this.stockEpoch = stockEpoch;
+        this.productResults = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.categoryResults = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached products matching a name query or loads them.
+     *
+     * @param query  the query as typed by the user
+     * @param fuzzy  whether the search tolerates typos
+     * @param loader runs the search on a miss
+     * @return an unmodifiable list of product DTOs
+     */
+    public List<ProductResponseDto> getProducts(
+            String query,
+            boolean fuzzy,
+            Supplier<List<ProductResponseDto>> loader) {
+        String key = key(query, fuzzy ? "fuzzy" : "exact");
+        return productResults.get(key, k -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Returns the cached categories matching a name query or loads them.
+     *
+     * @param query  the query as typed by the user
+     * @param loader runs the search on a miss
+     * @return an unmodifiable list of category DTOs
+     */
+    public List<CategoryResponseDto> getCategories(String query, Supplier<List<CategoryResponseDto>> loader) {
+        return categoryResults.get(key(query, ""), k -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Normalizes a query the way cache keys are built: accent-folded,
+     * lower-cased, trimmed and with runs of whitespace collapsed.
+     *
+     * @param query the query as typed by the user, may be null
+     * @return the normalized query
+     */
+    public static String normalizeQuery(String query) {
+        return SearchText.normalize(query).trim().replaceAll("\\s+", " ");
+    }
+
+    private String key(String query, String options) {
+        return String.valueOf(catalogVersion.current()) + KEY_SEPARATOR + stockEpoch.current()
+            + KEY_SEPARATOR + options + KEY_SEPARATOR + normalizeQuery(query);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, CacheStatsDto> getCacheStats() {
+        Map<String, CacheStatsDto> stats = new LinkedHashMap<>();
+        stats.put("productSearchResults", CacheStatsDto.of(productResults));
+        stats.put("categorySearchResults", CacheStatsDto.of(categoryResults));
+        return stats;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ivay.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the latest stock epoch this instance has seen.
+ *
+ * The epoch counts committed stock changes made outside of catalog writes,
+ * i.e. the stock decrements of placed orders, which deliberately do not
+ * move the {@link CatalogVersion}. It is persisted in the "stock_epoch"
+ * table, advanced here after each local order commits, and periodically
+ * from the database to pick up orders placed on other instances. The HTTP
+ * validators of the catalog endpoints and the search result cache keys
+ * combine it with the catalog version, since their responses carry stock.
+ *
+ * @since 1.0.0
+ */
+@Component
+public class StockEpoch {
+
+    private final AtomicLong epoch = new AtomicLong();
+
+    private volatile Instant lastModified = Instant.now();
+
+    /**
+     * Returns the latest stock epoch seen.
+     *
+     * @return the epoch
+     */
+    public long current() {
+        return epoch.get();
+    }
+
+    /**
+     * Returns when this instance first saw the current epoch. Never earlier
+     * than the committed stock change, so it is safe to use as a Last-Modified date.
+     *
+     * @return the time the epoch last advanced, or the start time
+     */
+    public Instant lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Moves the epoch forward; older values are ignored, so callers
+     * finishing out of order never move it back.
+     *
+     * @param newEpoch a committed stock epoch
+     * @return true if the epoch advanced
+     */
+    public boolean advanceTo(long newEpoch) {
+        long previous = epoch.getAndAccumulate(newEpoch, Math::max);
+        if (newEpoch <= previous) {
+            return false;
+        }
+        lastModified = Instant.now();
+        return true;
+    }
+}
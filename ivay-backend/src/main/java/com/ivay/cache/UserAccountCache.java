@@ -0,0 +1,118 @@
+package com.ivay.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ivay.dtos.cachedto.CacheStatsDto;
+import com.ivay.dtos.userdto.UserAccountDto;
+import com.ivay.event.RoleChangedEvent;
+import com.ivay.event.UserChangedEvent;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory cache of user accounts and their roles.
+ *
+ * Holds {@link UserAccountDto} snapshots by username and by id, each in a
+ * bounded Caffeine cache. Each cache is only written by its own loader:
+ * storing a snapshot under the other key from inside a loader is not covered
+ * by that key's entry lock, so a load that read the row before a change
+ * committed could put the old snapshot back after the change evicted it.
+ * Unknown users are not cached, so a miss for them costs what the uncached
+ * lookup did.
+ *
+ * Entries are dropped when a {@link UserChangedEvent} or
+ * {@link RoleChangedEvent} is published, once the publishing transaction
+ * commits. The TTL bounds how long another instance may keep serving an
+ * account after a change it was not told about.
+ *
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class UserAccountCache implements CacheStatsSource {
+
+    private final Cache<String, UserAccountDto> usersByName;
+    private final Cache<Long, UserAccountDto> usersById;
+
+    public UserAccountCache(
+            @Value("${users.cache.max-users:10000}") long maxUsers,
+            @Value("${users.cache.ttl:PT5M}") Duration ttl) {
+        this.usersByName = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.usersById = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached account with the given username or loads it.
+     *
+     * @param username the username of the account
+     * @param loader   loads the account on a miss, returning null if there is none
+     * @return the account, or null if the loader found none
+     */
+    public UserAccountDto getByName(String username, Function<String, UserAccountDto> loader) {
+        return usersByName.get(username, loader);
+    }
+
+    /**
+     * Returns the cached account with the given id or loads it.
+     *
+     * @param userId the identifier of the account
+     * @param loader loads the account on a miss, returning null if there is none
+     * @return the account, or null if the loader found none
+     */
+    public UserAccountDto getById(Long userId, Function<Long, UserAccountDto> loader) {
+        return usersById.get(userId, loader);
+    }
+
+    /**
+     * Drops a changed user under its id and both its old and new names.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        usersById.invalidate(event.getUserId());
+        usersByName.invalidate(event.getPreviousName());
+        usersByName.invalidate(event.getName());
+        log.debug("Evicted user {} from user cache", event.getUserId());
+    }
+
+    /**
+     * Drops every user holding a changed role.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        Long roleId = event.getRoleId();
+        usersById.asMap().values().removeIf(account -> roleId.equals(account.getRoleId()));
+        usersByName.asMap().values().removeIf(account -> roleId.equals(account.getRoleId()));
+        log.debug("Evicted users with role {} from user cache", roleId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, CacheStatsDto> getCacheStats() {
+        Map<String, CacheStatsDto> stats = new LinkedHashMap<>();
+        stats.put("usersByName", CacheStatsDto.of(usersByName));
+        stats.put("usersById", CacheStatsDto.of(usersById));
+        return stats;
+    }
+}
@@ -0,0 +1,197 @@
+package com.ivay.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ivay.dtos.cachedto.CacheStatsDto;
+import com.ivay.event.RoleChangedEvent;
+import com.ivay.event.UserChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of verified bearer tokens.
+ *
+ * Maps the SHA-256 digest of a token, never the token itself, to the
+ * principal and authorities built when it was first verified, so a repeat
+ * token costs one digest and one hash lookup instead of an HMAC check and
+ * a claims parse. An entry expires at the token's own
+ * expiration or after the configured TTL, whichever comes first; the TTL
+ * bounds how long another instance may keep serving a principal after a
+ * user change it was not told about.
+ *
+ * Entries of a user are dropped on a {@link UserChangedEvent}, and every
+ * entry on a {@link RoleChangedEvent}, once the publishing transaction
+ * commits, so the next request of an affected user is verified again.
+ *
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache implements CacheStatsSource {
+
+    private final Cache<String, VerifiedToken> tokens;
+
+    public VerifiedTokenCache(
+            @Value("${security.jwt.cache.max-tokens:10000}") long maxTokens,
+            @Value("${security.jwt.cache.ttl:PT5M}") Duration ttl) {
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(maxTokens)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                    return lifetime(token, ttl).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                    return lifetime(token, ttl).toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns a token verified earlier, or verifies it. Exceptions thrown by
+     * the verifier (e.g. an invalid or expired token) are propagated and
+     * nothing is cached. Revocation is not checked here.
+     *
+     * @param token    the raw bearer token
+     * @param verifier verifies the token and builds its principal on a miss
+     * @return the verified token
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        return tokens.get(digest(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * Drops every cached token of the given user, e.g. after the account
+     * was disabled, deleted, renamed or given another role.
+     *
+     * @param username the name of the user
+     */
+    public void evictUser(String username) {
+        tokens.asMap().values().removeIf(token -> token.getPrincipal().getUsername().equals(username));
+        log.debug("Evicted cached tokens of user {}", username);
+    }
+
+    /**
+     * Drops every cached token, for changes affecting many users at once,
+     * such as renaming a role.
+     */
+    public void evictAll() {
+        tokens.invalidateAll();
+    }
+
+    /**
+     * Drops the tokens of a changed user, cached under its previous name.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evictUser(event.getPreviousName());
+    }
+
+    /**
+     * Drops every token, since the users holding a changed role are not
+     * known from the cache alone.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        evictAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, CacheStatsDto> getCacheStats() {
+        return Map.of("verifiedTokens", CacheStatsDto.of(tokens));
+    }
+
+    /**
+     * Time left until the token expires, capped by the TTL.
+     */
+    private static Duration lifetime(VerifiedToken token, Duration ttl) {
+        if (token.getExpiresAt() == null) {
+            return ttl;
+        }
+        Duration remaining = Duration.between(Instant.now(), token.getExpiresAt());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(ttl) < 0 ? remaining : ttl;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * A verified token: the principal it authenticates, the user id and
+     * security version it was issued with, and when it expires.
+     */
+    public static final class VerifiedToken {
+
+        private final UserDetails principal;
+        private final long userId;
+        private final long securityVersion;
+        private final Instant expiresAt;
+
+        /**
+         * @param principal       the user the token authenticates, with its authorities
+         * @param userId          the user id claim
+         * @param securityVersion the security version claim
+         * @param expiresAt       the expiration claim of the token, or null if it has none
+         */
+        public VerifiedToken(UserDetails principal, long userId, long securityVersion, Instant expiresAt) {
+            this.principal = principal;
+            this.userId = userId;
+            this.securityVersion = securityVersion;
+            this.expiresAt = expiresAt;
+        }
+
+        public UserDetails getPrincipal() {
+            return principal;
+        }
+
+        public long getUserId() {
+            return userId;
+        }
+
+        public long getSecurityVersion() {
+            return securityVersion;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.ivay.repository.UserRepository;
 import javax.sql.DataSource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 
 @Configuration
@@ -26,6 +27,13 @@ public class LoadDatabase {
     @Autowired
     private DataSource dataSource;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Tablas con ids generados por bloques y su tabla de secuencia asociada
+    private static final List<String> POOLED_ID_TABLES =
+        List.of("products", "orders", "order_items", "cart_items");
+
     @Bean
     CommandLineRunner initDatabase(UserRepository userRepository) {
         return args -> {
@@ -33,6 +41,7 @@ public class LoadDatabase {
             // Si ya hay usuarios, no hacer nada
             if (userRepository.count() > 0) {
                 System.out.println("🔁 Usuarios ya existentes en la base de datos. Saltando carga inicial.");
+                alignIdSequences();
                 return;
             }
 
@@ -82,8 +91,20 @@ public class LoadDatabase {
             // Ejecutar script SQL solo si es la primera vez
             Resource sqlScript = new ClassPathResource("sql/data.sql");
             ScriptUtils.executeSqlScript(dataSource.getConnection(), sqlScript);
+            alignIdSequences();
 
             System.out.println("✅ Carga inicial completada.");
         };
     }
+
+    // Avanza cada tabla *_seq por encima del mayor id existente, para que los
+    // bloques de ids no choquen con filas insertadas por data.sql o con ids
+    // AUTO_INCREMENT de bases de datos creadas antes del cambio
+    private void alignIdSequences() {
+        for (String table : POOLED_ID_TABLES) {
+            jdbcTemplate.update(
+                "UPDATE " + table + "_seq SET next_val = GREATEST(next_val, "
+                + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + "))");
+        }
+    }
 }
@@ -70,16 +70,20 @@ public class SecurityConfig {
 		String[] PUBLIC_GET = {
 				"/api/products",
 				"/api/products/filter",
+				"/api/products/batch",
+				"/api/products/search",
 				"/api/products/{productId}",
 				"/api/categories",
 				"/api/categories/filter",
 				"/api/categories/{categoryId}",
-				"/api/categories/{categoryId}/products"
+				"/api/categories/{categoryId}/products",
+				"/api/search/suggest"
 		};
 
 		String[] PUBLIC_POST = {
 				"/api/auth/**",
-				"/api/users"
+				"/api/users",
+				"/api/products/batch"
 		};
 
 		String[] AUTHENTICATED = {
@@ -95,6 +99,8 @@ public class SecurityConfig {
 		.authorizeHttpRequests(auth -> auth
 
 				.requestMatchers(PUBLIC_DOCS).permitAll()
+				// Must precede PUBLIC_GET, whose "/api/products/{productId}" also matches it
+				.requestMatchers(HttpMethod.GET, "/api/products/export").hasAnyRole("SUPERADMIN", "ADMIN", "MANAGER")
 				.requestMatchers(HttpMethod.GET, PUBLIC_GET).permitAll()
 				.requestMatchers(HttpMethod.POST, PUBLIC_POST).permitAll()
 
@@ -113,6 +119,10 @@ public class SecurityConfig {
 
 				.requestMatchers("/api/order-items/**").hasAnyRole("SUPERADMIN", "ADMIN")
 
+				.requestMatchers("/api/cache/**").hasAnyRole("SUPERADMIN", "ADMIN")
+				.requestMatchers(HttpMethod.GET, "/api/auth/stats").hasAnyRole("SUPERADMIN", "ADMIN")
+				.requestMatchers(HttpMethod.GET, "/api/catalog/**").hasAnyRole("SUPERADMIN", "ADMIN", "MANAGER")
+
 				.requestMatchers(HttpMethod.POST, "/api/categories/**").hasAnyRole("SUPERADMIN", "ADMIN", "MANAGER")
 				.requestMatchers(HttpMethod.PUT,  "/api/categories/**").hasAnyRole("SUPERADMIN", "ADMIN", "MANAGER")
 				.requestMatchers(HttpMethod.DELETE, "/api/categories/**").hasAnyRole("SUPERADMIN", "ADMIN", "MANAGER")
@@ -1,13 +1,16 @@
 package com.ivay.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.ivay.dtos.auth.AuthLoginRequestDto;
 import com.ivay.dtos.auth.AuthResponseDto;
+import com.ivay.dtos.auth.LoginStatsDto;
 import com.ivay.dtos.api.ApiError;
+import com.ivay.dtos.api.ApiResponseDto;
 import com.ivay.service.impl.UserDetailsServiceImpl;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,12 +19,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.*;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 /**
  * REST controller for authentication endpoints.
  *
- * Provides an endpoint to authenticate users and issue JWT access tokens.
+ * Provides an endpoint to authenticate users and issue JWT access tokens,
+ * and one reporting the load of the login pipeline.
  *
  * @since 1.0.0
  */
@@ -43,6 +48,7 @@ public class AuthController {
      * Authenticates a user and returns a JWT access token.
      *
      * @param loginRequest the DTO containing username and password
+     * @param request      the current HTTP request, for the client address
      * @return a {@link ResponseEntity} containing {@link AuthResponseDto} with the token
      * @throws BadCredentialsException if authentication fails
      */
@@ -85,6 +91,22 @@ public class AuthController {
                 schema    = @Schema(implementation = ApiError.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "429",
+            description  = "Too many login attempts from this address or for this user; see Retry-After",
+            content      = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description  = "Too many logins in progress; see Retry-After",
+            content      = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        ),
         @ApiResponse(
             responseCode = "500",
             description  = "Internal server error",
@@ -105,9 +127,61 @@ public class AuthController {
             required    = true,
             content     = @Content(schema = @Schema(implementation = AuthLoginRequestDto.class))
         )
-        @Valid @org.springframework.web.bind.annotation.RequestBody AuthLoginRequestDto loginRequest
+        @Valid @org.springframework.web.bind.annotation.RequestBody AuthLoginRequestDto loginRequest,
+        HttpServletRequest request
     ) {
-        AuthResponseDto authResponse = userDetailsService.login(loginRequest);
+        AuthResponseDto authResponse = userDetailsService.login(loginRequest, request.getRemoteAddr());
         return ResponseEntity.ok(authResponse);
     }
+
+    /**
+     * Retrieve the load of the login pipeline.
+     *
+     * @return HTTP 200 with the {@link LoginStatsDto}
+     */
+    @Operation(
+        summary     = "Fetch login statistics",
+        description = "Retrieve the password verifier queue depth and hash latency, and the number of throttled login attempts",
+        tags        = { "Auth" }
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description  = "Login statistics fetched successfully",
+            content      = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(
+                    implementation = ApiResponseDto.class,
+                    subTypes       = { LoginStatsDto.class }
+                ),
+                examples  = @ExampleObject(value = """
+                    {
+                      "timestamp": "2025-05-06T15:00:00.123456",
+                      "message": "Login statistics fetched successfully",
+                      "code": 200,
+                      "data": {
+                        "verifierThreads": 4,
+                        "activeVerifications": 1,
+                        "queuedVerifications": 0,
+                        "queueCapacity": 32,
+                        "completedVerifications": 1520,
+                        "rejectedVerifications": 0,
+                        "timedOutVerifications": 0,
+                        "averageHashMillis": 71.3,
+                        "maxHashMillis": 142.8,
+                        "throttledByAddress": 12,
+                        "throttledByUsername": 3
+                      }
+                    }
+                    """
+                )
+            )
+        )
+    })
+    @GetMapping(value = "/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDto<LoginStatsDto>> getLoginStats() {
+        ApiResponseDto<LoginStatsDto> response =
+            new ApiResponseDto<>("Login statistics fetched successfully", HttpStatus.OK.value(), userDetailsService.getLoginStats());
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,86 @@
+package com.ivay.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.ivay.cache.CacheStatsSource;
+import com.ivay.dtos.api.ApiResponseDto;
+import com.ivay.dtos.cachedto.CacheStatsDto;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.media.*;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * REST controller exposing the statistics of the in-memory caches.
+ *
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping(value = "/api/cache", produces = MediaType.APPLICATION_JSON_VALUE)
+@CrossOrigin(origins = {
+	    "http://localhost:3000",
+	    "http://localhost:3001",
+	    "http://localhost:5173",
+	    "http://localhost:5174",
+	    "http://localhost:5678"
+	})@Tag(name = "Cache", description = "Endpoints for monitoring in-memory caches")
+public class CacheController {
+
+    @Autowired
+    private List<CacheStatsSource> cacheStatsSources;
+
+    /**
+     * Retrieve hit, miss and eviction statistics of every cache.
+     *
+     * @return HTTP 200 with a map of {@link CacheStatsDto} keyed by cache name
+     */
+    @Operation(summary = "Fetch cache statistics", description = "Retrieve hit, miss and eviction counters of every in-memory cache")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Cache statistics fetched successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(
+                    implementation = ApiResponseDto.class,
+                    subTypes       = { CacheStatsDto.class }
+                ),
+                examples = @ExampleObject(value = """
+                    {
+                      "timestamp": "2025-05-06T15:00:00.123456",
+                      "message": "Cache statistics fetched successfully",
+                      "code": 200,
+                      "data": {
+                        "productsById": {
+                          "size": 120,
+                          "hitCount": 98231,
+                          "missCount": 140,
+                          "hitRate": 0.9986,
+                          "evictionCount": 0,
+                          "loadFailureCount": 3,
+                          "averageLoadMillis": 2.4
+                        }
+                      }
+                    }
+                    """
+                )
+            )
+        )
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponseDto<Map<String, CacheStatsDto>>> getCacheStats() {
+        Map<String, CacheStatsDto> stats = new TreeMap<>();
+        cacheStatsSources.forEach(source -> stats.putAll(source.getCacheStats()));
+        ApiResponseDto<Map<String, CacheStatsDto>> response =
+            new ApiResponseDto<>("Cache statistics fetched successfully", HttpStatus.OK.value(), stats);
+        return ResponseEntity.ok(response);
+    }
+}
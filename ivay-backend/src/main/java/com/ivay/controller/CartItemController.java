@@ -7,12 +7,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import com.ivay.dtos.api.ApiError;
 import com.ivay.dtos.api.ApiResponseDto;
 import com.ivay.dtos.cartitemdto.CartItemRequestDto;
 import com.ivay.dtos.cartitemdto.CartItemResponseDto;
+import com.ivay.dtos.cartitemdto.CartViewResponseDto;
+import com.ivay.dtos.cartitemdto.ReplaceCartRequestDto;
 import com.ivay.dtos.cartitemdto.UpdateCartItemQuantityDto;
 import com.ivay.service.CartItemService;
 
@@ -29,7 +32,7 @@ import io.swagger.v3.oas.annotations.media.*;
  * REST controller for shopping cart item operations.
  *
  * Exposes endpoints to retrieve, add/update, patch quantity,
- * and delete cart items, as well as clear a user's entire cart.
+ * and delete cart items, as well as clear or replace a user's entire cart.
  *
  * All responses are wrapped in {@link ApiResponseDto} or return an
  * error payload {@link ApiError}.
@@ -199,6 +202,123 @@ public class CartItemController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Retrieve the authenticated user's cart with product data and totals.
+     *
+     * @param authToken the authentication token
+     * @return HTTP 200 with the {@link CartViewResponseDto}
+     */
+    @Operation(
+        summary     = "Fetch my cart",
+        description = "Retrieve the authenticated user's cart lines with product name, price, discount, "
+                    + "image, stock and line totals, plus cart totals, in one call"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Cart fetched successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiResponseDto.class, subTypes = { CartViewResponseDto.class }),
+                examples = @ExampleObject(value = """
+                    {
+                      "timestamp": "2025-05-06T18:14:00.000Z",
+                      "message": "Cart fetched successfully",
+                      "code": 200,
+                      "data": {
+                        "items": [
+                          {
+                            "id": 10,
+                            "productId": 3,
+                            "name": "Wireless Ergonomic Mouse",
+                            "price": 35.50,
+                            "discount": 0.10,
+                            "imageUrl": "http://example.com/mouse.jpg",
+                            "stock": 150,
+                            "quantity": 2,
+                            "lineTotal": 63.90
+                          }
+                        ],
+                        "totalQuantity": 2,
+                        "subtotal": 71.00,
+                        "discountTotal": 7.10,
+                        "total": 63.90
+                      }
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping(value = "/users/me/cart", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDto<CartViewResponseDto>> getMyCart(Authentication authToken) {
+        CartViewResponseDto cart = cartItemService.getCartView(authToken.getName());
+        ApiResponseDto<CartViewResponseDto> response =
+            new ApiResponseDto<>("Cart fetched successfully", HttpStatus.OK.value(), cart);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Replace the authenticated user's whole cart.
+     *
+     * @param authToken             the authentication token
+     * @param replaceCartRequestDto payload with the desired cart lines
+     * @return HTTP 200 with the resulting cart items
+     */
+    @Operation(
+        summary     = "Replace my cart",
+        description = "Set the authenticated user's cart to exactly the given lines in one request"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Cart replaced successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiResponseDto.class, subTypes = { CartItemResponseDto.class }),
+                examples = @ExampleObject(value = """
+                    {
+                      "timestamp": "2025-05-06T18:16:00.000Z",
+                      "message": "Cart replaced successfully",
+                      "code": 200,
+                      "data": [
+                        { "id": 10, "userId": 5, "productId": 3, "quantity": 2 },
+                        { "id": 12, "userId": 5, "productId": 7, "quantity": 1 }
+                      ]
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid input",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "Product not found",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        ),
+        @ApiResponse(responseCode = "409", description = "Insufficient stock",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        )
+    })
+    @PutMapping(value = "/users/me/cart",
+                consumes = MediaType.APPLICATION_JSON_VALUE,
+                produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDto<List<CartItemResponseDto>>> replaceCart(
+        Authentication authToken,
+        @Parameter(description = "Desired cart contents", required = true,
+                   schema = @Schema(implementation = ReplaceCartRequestDto.class))
+        @Valid @RequestBody ReplaceCartRequestDto replaceCartRequestDto
+    ) {
+        List<CartItemResponseDto> cart = cartItemService.replaceCart(authToken.getName(), replaceCartRequestDto);
+        ApiResponseDto<List<CartItemResponseDto>> response =
+            new ApiResponseDto<>("Cart replaced successfully", HttpStatus.OK.value(), cart);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Update only the quantity of an existing cart item.
      *
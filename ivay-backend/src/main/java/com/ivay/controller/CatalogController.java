@@ -0,0 +1,114 @@
+package com.ivay.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.ivay.dtos.api.ApiError;
+import com.ivay.dtos.api.ApiResponseDto;
+import com.ivay.dtos.catalogdto.CatalogChangesDto;
+import com.ivay.service.CatalogService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.media.*;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * REST controller for incremental synchronization of the catalog.
+ *
+ * Lets clients that keep a local copy of products, categories and suppliers
+ * fetch only what changed since the catalog version they last saw.
+ *
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping(value = "/api/catalog", produces = MediaType.APPLICATION_JSON_VALUE)
+@CrossOrigin(origins = {
+	    "http://localhost:3000",
+	    "http://localhost:3001",
+	    "http://localhost:5173",
+	    "http://localhost:5174",
+	    "http://localhost:5678"
+	})@Tag(name = "Catalog", description = "Endpoints for synchronizing the catalog incrementally")
+public class CatalogController {
+
+    @Autowired
+    private CatalogService catalogService;
+
+    /**
+     * Retrieve the products, categories and suppliers written after a catalog version.
+     *
+     * @param since the catalog version the client already holds, 0 for a full download
+     * @return HTTP 200 with a {@link CatalogChangesDto}
+     */
+    @Operation(
+        summary     = "Fetch catalog changes",
+        description = "Retrieve the products, categories and suppliers created or updated after the given "
+                    + "catalog version, and the ids of those deleted, oldest first and at most 'limit' entities at a time. "
+                    + "Pass the returned version as 'since' on the next poll, right away while 'hasMore' is true"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Catalog changes fetched successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(
+                    implementation = ApiResponseDto.class,
+                    subTypes       = { CatalogChangesDto.class }
+                ),
+                examples = @ExampleObject(value = """
+                    {
+                      "timestamp": "2025-05-06T15:00:00.123456",
+                      "message": "Catalog changes fetched successfully",
+                      "code": 200,
+                      "data": {
+                        "version": 42,
+                        "hasMore": false,
+                        "products": [
+                          {
+                            "id": 2,
+                            "name": "Phone",
+                            "description": "Smartphone",
+                            "price": 800.00,
+                            "stock": 149,
+                            "discount": 0.05,
+                            "imageUrl": "http://example.com/phone.jpg",
+                            "categoryId": 1,
+                            "supplierId": 3
+                          }
+                        ],
+                        "categories": [],
+                        "suppliers": [],
+                        "deletedProductIds": [7],
+                        "deletedCategoryIds": [],
+                        "deletedSupplierIds": []
+                      }
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Negative version or limit out of range",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ApiError.class)
+            )
+        )
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponseDto<CatalogChangesDto>> getChanges(
+        @Parameter(description = "Catalog version already held by the client; 0 to download everything", example = "41")
+        @RequestParam(defaultValue = "0") long since,
+        @Parameter(description = "Maximum number of entities to return (1-1000)", example = "500")
+        @RequestParam(defaultValue = "500") int limit
+    ) {
+        CatalogChangesDto changes = catalogService.getChanges(since, limit);
+        ApiResponseDto<CatalogChangesDto> response =
+            new ApiResponseDto<>("Catalog changes fetched successfully", HttpStatus.OK.value(), changes);
+        return ResponseEntity.ok(response);
+    }
+}
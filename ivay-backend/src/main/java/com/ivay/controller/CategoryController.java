@@ -1,18 +1,23 @@
 package com.ivay.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.ivay.cache.CatalogHttpCaching;
 import com.ivay.dtos.api.ApiError;
 import com.ivay.dtos.api.ApiResponseDto;
 import com.ivay.dtos.categorydto.CategoryRequestDto;
 import com.ivay.dtos.categorydto.CategoryResponseDto;
-import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.dtos.productdto.PaginatedProductResponseDto;
 import com.ivay.service.CategoryService;
 
 import java.util.List;
@@ -31,11 +36,13 @@ import io.swagger.v3.oas.annotations.media.*;
  * categories, as well as to fetch products by category.
  *
  * All responses are wrapped in an {@link ApiResponseDto} or return an error
- * payload {@link ApiError}.
+ * payload {@link ApiError}. Public reads answer conditional requests through
+ * {@link CatalogHttpCaching}.
  *
  * @since 1.0.0
  */
 @RestController
+@Validated
 @RequestMapping("/api/categories")
 @RequiredArgsConstructor
 @CrossOrigin(origins = {
@@ -48,6 +55,7 @@ import io.swagger.v3.oas.annotations.media.*;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CatalogHttpCaching catalogHttpCaching;
 
     /**
      * Retrieve all categories.
@@ -82,11 +90,11 @@ public class CategoryController {
         )
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ApiResponseDto<List<CategoryResponseDto>>> getAllCategories() {
-        List<CategoryResponseDto> categories = categoryService.getAllCategories();
-        ApiResponseDto<List<CategoryResponseDto>> response =
-            new ApiResponseDto<>("Categories fetched successfully", HttpStatus.OK.value(), categories);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponseDto<List<CategoryResponseDto>>> getAllCategories(WebRequest webRequest) {
+        return catalogHttpCaching.ok(webRequest, () -> {
+            List<CategoryResponseDto> categories = categoryService.getAllCategories();
+            return new ApiResponseDto<>("Categories fetched successfully", HttpStatus.OK.value(), categories);
+        });
     }
 
     /**
@@ -124,12 +132,13 @@ public class CategoryController {
     @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponseDto<List<CategoryResponseDto>>> findCategoriesByName(
         @Parameter(description = "Name substring to filter by", required = true)
-        @RequestParam String name
+        @RequestParam String name,
+        WebRequest webRequest
     ) {
-        List<CategoryResponseDto> categories = categoryService.findCategoriesByName(name);
-        ApiResponseDto<List<CategoryResponseDto>> response =
-            new ApiResponseDto<>("Categories filtered by name successfully", HttpStatus.OK.value(), categories);
-        return ResponseEntity.ok(response);
+        return catalogHttpCaching.ok(webRequest, () -> {
+            List<CategoryResponseDto> categories = categoryService.findCategoriesByName(name);
+            return new ApiResponseDto<>("Categories filtered by name successfully", HttpStatus.OK.value(), categories);
+        });
     }
 
     /**
@@ -171,23 +180,32 @@ public class CategoryController {
     @GetMapping(value = "/{categoryId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponseDto<CategoryResponseDto>> getCategoryById(
         @Parameter(description = "Identifier of the category", required = true)
-        @PathVariable Long categoryId
+        @PathVariable Long categoryId,
+        WebRequest webRequest
     ) {
-        CategoryResponseDto category = categoryService.getCategoryById(categoryId);
-        ApiResponseDto<CategoryResponseDto> response =
-            new ApiResponseDto<>("Category fetched successfully", HttpStatus.OK.value(), category);
-        return ResponseEntity.ok(response);
+        return catalogHttpCaching.ok(webRequest, () -> {
+            CategoryResponseDto category = categoryService.getCategoryById(categoryId);
+            return new ApiResponseDto<>("Category fetched successfully", HttpStatus.OK.value(), category);
+        });
     }
 
     /**
-     * Retrieve all products belonging to a specific category.
+     * Retrieve a page of the products belonging to a specific category.
      *
-     * @param categoryId identifier of the category
-     * @return HTTP 200 with list of products
+     * @param categoryId   identifier of the category
+     * @param page         zero-based page index, ignored when {@code after} is given
+     * @param size         number of products per page
+     * @param sort         sort field: id, price or name
+     * @param direction    sort direction: asc or desc
+     * @param after        cursor returned as nextCursor by the previous page
+     * @param includeTotal whether to compute totalElements and totalPages
+     * @return HTTP 200 with {@link PaginatedProductResponseDto}
      */
     @Operation(
         summary     = "Fetch products by category ID",
-        description = "Retrieve all products belonging to a specific category"
+        description = "Retrieve a page of the products belonging to a specific category, sorted by ID, "
+                    + "price or name. Pass the nextCursor of a response as 'after' to fetch the following "
+                    + "page; totals are only computed when includeTotal is true"
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Products for category fetched successfully",
@@ -195,23 +213,35 @@ public class CategoryController {
                 mediaType = MediaType.APPLICATION_JSON_VALUE,
                 schema    = @Schema(
                     implementation = ApiResponseDto.class,
-                    subTypes       = { ProductResponseDto.class }
+                    subTypes       = { PaginatedProductResponseDto.class }
                 ),
                 examples = @ExampleObject(value = """
                     {
                       "timestamp": "2025-05-06T18:06:00.000Z",
                       "message": "Products for category fetched successfully",
                       "code": 200,
-                      "data": [
-                        { "id": 5, "name": "Smartphone", "price": 699.99 },
-                        { "id": 6, "name": "Laptop", "price": 1299.00 }
-                      ]
+                      "data": {
+                        "content": [
+                          { "id": 5, "name": "Smartphone", "price": 699.99, "categoryId": 1 },
+                          { "id": 6, "name": "Laptop", "price": 1299.00, "categoryId": 1 }
+                        ],
+                        "page": 0,
+                        "size": 2,
+                        "hasNext": true,
+                        "nextCursor": "aWR8QVNDfDY"
+                      }
                     }
                     """
                 )
             )
         ),
-        @ApiResponse(responseCode = "404", description = "Category not found",
+        @ApiResponse(responseCode = "400", description = "Invalid sort, direction, page, page size or cursor",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "Category or page not found",
             content = @Content(
                 mediaType = MediaType.APPLICATION_JSON_VALUE,
                 schema    = @Schema(implementation = ApiError.class)
@@ -219,14 +249,26 @@ public class CategoryController {
         )
     })
     @GetMapping(value = "/{categoryId}/products", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ApiResponseDto<List<ProductResponseDto>>> getProductsByCategoryId(
+    public ResponseEntity<ApiResponseDto<PaginatedProductResponseDto>> getProductsByCategoryId(
         @Parameter(description = "Identifier of the category", required = true)
-        @PathVariable Long categoryId
+        @PathVariable Long categoryId,
+        @Parameter(description = "Page index (0-based)", example = "0")
+        @RequestParam(defaultValue = "0") @Min(value = 0, message = "Page cannot be negative") int page,
+        @Parameter(description = "Number of items per page, at most 100", example = "20")
+        @RequestParam(defaultValue = "20") @Min(value = 1, message = "Size must be at least 1")
+        @Max(value = 100, message = "Size must be at most 100") int size,
+        @Parameter(description = "Sort field: id, price or name", example = "name") @RequestParam(defaultValue = "id") String sort,
+        @Parameter(description = "Sort direction: asc or desc", example = "asc") @RequestParam(defaultValue = "asc") String direction,
+        @Parameter(description = "Cursor from the previous page's nextCursor") @RequestParam(required = false) String after,
+        @Parameter(description = "Whether to compute totalElements and totalPages", example = "false")
+        @RequestParam(defaultValue = "false") boolean includeTotal,
+        WebRequest webRequest
     ) {
-        List<ProductResponseDto> products = categoryService.getProductsByCategoryId(categoryId);
-        ApiResponseDto<List<ProductResponseDto>> response =
-            new ApiResponseDto<>("Products for category fetched successfully", HttpStatus.OK.value(), products);
-        return ResponseEntity.ok(response);
+        return catalogHttpCaching.ok(webRequest, () -> {
+            PaginatedProductResponseDto products = categoryService.getProductsByCategoryId(
+                categoryId, page, size, sort, direction, after, includeTotal);
+            return new ApiResponseDto<>("Products for category fetched successfully", HttpStatus.OK.value(), products);
+        });
     }
 
     /**
@@ -6,14 +6,17 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import com.ivay.dtos.api.ApiError;
 import com.ivay.dtos.api.ApiResponseDto;
 import com.ivay.dtos.orderdto.OrderResponseDto;
+import com.ivay.dtos.orderdto.checkout.CheckoutRequestDto;
 import com.ivay.dtos.orderdto.create.CreateOrderRequestDto;
 import com.ivay.dtos.orderdto.update.UpdateOrderDto;
 import com.ivay.dtos.orderitemdto.OrderItemResponseDto;
+import com.ivay.service.IdempotencyService;
 import com.ivay.service.OrderService;
 
 import java.util.List;
@@ -29,7 +32,8 @@ import io.swagger.v3.oas.annotations.media.*;
  * REST controller for managing orders.
  *
  * Exposes endpoints to list, retrieve, create, update, and delete orders,
- * as well as to list order items for a given order.
+ * to check out the authenticated user's cart, as well as to list order
+ * items for a given order.
  *
  * All responses are wrapped in {@link ApiResponseDto} or return an error
  * payload {@link ApiError}.
@@ -49,6 +53,7 @@ import io.swagger.v3.oas.annotations.media.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Retrieve all orders.
@@ -284,12 +289,17 @@ public class OrderController {
      *
      * Only the authenticated user matching userId in payload or an ADMIN/SUPERADMIN may create.
      *
+     * When an {@code Idempotency-Key} header is sent, retries with the same key
+     * replay the first response instead of placing the order again.
+     *
+     * @param idempotencyKey        optional client key used to deduplicate retries
      * @param createOrderRequestDto payload with userId, paymentMethod, discount, and items
      * @return HTTP 201 with created {@link OrderResponseDto}
      */
     @Operation(
         summary     = "Create a new order",
-        description = "Place a new order in the system"
+        description = "Place a new order in the system. Requests repeated with the same "
+                    + "Idempotency-Key header return the original order without placing it again"
     )
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Order created successfully",
@@ -319,7 +329,7 @@ public class OrderController {
                 )
             )
         ),
-        @ApiResponse(responseCode = "400", description = "Invalid request body",
+        @ApiResponse(responseCode = "400", description = "Invalid request body or Idempotency-Key reused with a different body",
             content = @Content(
                 mediaType = MediaType.APPLICATION_JSON_VALUE,
                 schema    = @Schema(implementation = ApiError.class)
@@ -333,11 +343,89 @@ public class OrderController {
     )
     @PreAuthorize("hasAnyRole('ADMIN','SUPERADMIN') or #createOrderRequestDto.userId == @userEntityServiceImpl.getByUsername(authentication.name).id")
     public ResponseEntity<ApiResponseDto<OrderResponseDto>> createOrder(
+        @Parameter(description = "Client generated key that makes retries safe", example = "6f1c2a9e-4b7d-4e0a-9a55-1d2f3c4b5a69")
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @Parameter(description = "Order creation payload", required = true,
                    schema = @Schema(implementation = CreateOrderRequestDto.class))
         @Valid @RequestBody CreateOrderRequestDto createOrderRequestDto
     ) {
-        OrderResponseDto created = orderService.createOrder(createOrderRequestDto);
+        OrderResponseDto created = idempotencyKey == null
+            ? orderService.createOrder(createOrderRequestDto)
+            : idempotencyService.execute(
+                createOrderRequestDto.getUserId() + ":" + idempotencyKey,
+                createOrderRequestDto,
+                OrderResponseDto.class,
+                () -> orderService.createOrder(createOrderRequestDto));
+        ApiResponseDto<OrderResponseDto> response =
+            new ApiResponseDto<>("Order created successfully", HttpStatus.CREATED.value(), created);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    /**
+     * Check out the authenticated user's cart.
+     *
+     * Converts every cart line into an order item, decrements stock and
+     * empties the cart in a single transaction.
+     *
+     * @param authToken          the authentication token
+     * @param checkoutRequestDto optional payload with paymentMethod and globalDiscount
+     * @return HTTP 201 with created {@link OrderResponseDto}
+     */
+    @Operation(
+        summary     = "Check out my cart",
+        description = "Turn the authenticated user's cart into an order and empty the cart"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Order created successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(
+                    implementation = ApiResponseDto.class,
+                    subTypes       = { OrderResponseDto.class }
+                ),
+                examples = @ExampleObject(value = """
+                    {
+                      "timestamp": "2025-05-06T17:09:00.000Z",
+                      "message": "Order created successfully",
+                      "code": 201,
+                      "data": {
+                        "id": 4,
+                        "userId": 5,
+                        "billDate": "2025-05-06T12:05:00",
+                        "paymentMethod": "CARD",
+                        "globalDiscount": 0,
+                        "totalAmount": 74.90,
+                        "totalAmountDiscounted": 74.90,
+                        "tax": 0
+                      }
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Cart is empty",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        ),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "409", description = "Insufficient stock",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        )
+    })
+    @PostMapping(value = "/users/me/checkout", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDto<OrderResponseDto>> checkout(
+        Authentication authToken,
+        @Parameter(description = "Checkout payload",
+                   schema = @Schema(implementation = CheckoutRequestDto.class))
+        @RequestBody(required = false) CheckoutRequestDto checkoutRequestDto
+    ) {
+        OrderResponseDto created = orderService.checkout(authToken.getName(),
+            checkoutRequestDto != null ? checkoutRequestDto : new CheckoutRequestDto());
         ApiResponseDto<OrderResponseDto> response =
             new ApiResponseDto<>("Order created successfully", HttpStatus.CREATED.value(), created);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
@@ -1,23 +1,40 @@
 package com.ivay.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.ivay.cache.CatalogHttpCaching;
 import com.ivay.dtos.api.ApiError;
 import com.ivay.dtos.api.ApiResponseDto;
 import com.ivay.dtos.productdto.PaginatedProductResponseDto;
+import com.ivay.dtos.productdto.ProductBatchRequestDto;
+import com.ivay.dtos.productdto.ProductBatchResponseDto;
+import com.ivay.dtos.productdto.ProductSearchCriteriaDto;
+import com.ivay.dtos.productdto.ProductSearchResponseDto;
 import com.ivay.dtos.productdto.ProductRequestDto;
 import com.ivay.dtos.productdto.ProductResponseDto;
 import com.ivay.dtos.orderitemdto.OrderItemResponseDto;
 import com.ivay.dtos.cartitemdto.CartItemResponseDto;
 import com.ivay.service.ProductService;
+import com.ivay.service.impl.ProductExportLimiter;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -29,12 +46,14 @@ import io.swagger.v3.oas.annotations.media.*;
 /**
  * REST controller for managing products.
  *
- * Provides endpoints to list, filter, paginate, retrieve,
- * create, update, and delete products, as well as to fetch
- * related order items and cart items.
+ * Provides endpoints to list, export, filter, paginate, retrieve (singly
+ * or in batches), search with filters and facets, create, update,
+ * and delete products, as well as to fetch related order items
+ * and cart items.
  *
  * All responses are wrapped in {@link ApiResponseDto} or
- * return an {@link ApiError} payload on error.
+ * return an {@link ApiError} payload on error. Public reads
+ * answer conditional requests through {@link CatalogHttpCaching}.
  *
  * @since 1.0.0
  */
@@ -51,6 +70,12 @@ import io.swagger.v3.oas.annotations.media.*;
 public class ProductController {
 
     private final ProductService productService;
+    private final CatalogHttpCaching catalogHttpCaching;
+    private final ProductExportLimiter productExportLimiter;
+
+    private static final Map<String, MediaType> EXPORT_TYPES = Map.of(
+        "ndjson", MediaType.parseMediaType("application/x-ndjson;charset=UTF-8"),
+        "csv",    MediaType.parseMediaType("text/csv;charset=UTF-8"));
 
     /**
      * Retrieve all products.
@@ -111,23 +136,113 @@ public class ProductController {
         )
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ApiResponseDto<List<ProductResponseDto>>> getAllProducts() {
-        List<ProductResponseDto> products = productService.getAllProducts();
-        ApiResponseDto<List<ProductResponseDto>> response =
-            new ApiResponseDto<>("Products fetched successfully", HttpStatus.OK.value(), products);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponseDto<List<ProductResponseDto>>> getAllProducts(WebRequest webRequest) {
+        return catalogHttpCaching.ok(webRequest, () -> {
+            List<ProductResponseDto> products = productService.getAllProducts();
+            return new ApiResponseDto<>("Products fetched successfully", HttpStatus.OK.value(), products);
+        });
     }
 
     /**
-     * Retrieve products with pagination.
+     * Export the whole catalog as a stream of records.
+     *
+     * Only a few exports may run at once, each holding a database connection
+     * until the client has read everything; the long async timeout they need
+     * is set on this response only. The permit is released when the body ends
+     * and, in case it never runs, when the async request ends. Restricted to staff.
      *
-     * @param page zero-based page index
-     * @param size number of items per page
+     * @param format  "ndjson" (one JSON product per line) or "csv"
+     * @param request the current HTTP request, whose async timeout is raised
+     * @return HTTP 200 with the products streamed as they are read
+     */
+    @Operation(
+        summary     = "Export all products",
+        description = "Stream every product as NDJSON or CSV. Rows are written as they are read from the "
+                    + "database, so the response starts immediately and memory use does not grow with the catalog"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Products streamed successfully",
+            content = {
+                @Content(mediaType = "application/x-ndjson", examples = @ExampleObject(value = """
+                    {"id":1,"name":"Laptop","description":"Gaming laptop","price":1500.00,"stock":10,"discount":0.10,"imageUrl":"http://example.com/laptop.jpg","categoryId":1,"supplierId":2}
+                    {"id":2,"name":"Phone","description":"Smartphone","price":800.00,"stock":150,"discount":0.05,"imageUrl":"http://example.com/phone.jpg","categoryId":1,"supplierId":3}
+                    """)),
+                @Content(mediaType = "text/csv", examples = @ExampleObject(value = """
+                    id,name,description,price,stock,discount,imageUrl,categoryId,supplierId
+                    1,Laptop,Gaming laptop,1500.00,10,0.10,http://example.com/laptop.jpg,1,2
+                    """))
+            }
+        ),
+        @ApiResponse(responseCode = "400", description = "Unsupported format",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        ),
+        @ApiResponse(responseCode = "503", description = "Too many exports in progress; see Retry-After",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        )
+    })
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('SUPERADMIN','ADMIN','MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+        @Parameter(description = "Output format: ndjson or csv", example = "ndjson")
+        @RequestParam(defaultValue = "ndjson") String format,
+        HttpServletRequest request
+    ) {
+        String normalized = format.toLowerCase(Locale.ROOT);
+        MediaType contentType = EXPORT_TYPES.get(normalized);
+        if (contentType == null) {
+            throw new IllegalArgumentException("Cannot export products as '" + format + "'; use ndjson or csv");
+        }
+        ProductExportLimiter.Permit permit = productExportLimiter.acquire();
+        StreamingResponseBody body = outputStream -> {
+            try {
+                productService.exportProducts(normalized, outputStream);
+            } finally {
+                permit.release();
+            }
+        };
+        try {
+            // the body may never run (rejected task, timeout, client gone), so the
+            // async request also releases the permit once it ends, however it ends
+            AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+            asyncWebRequest.setTimeout(productExportLimiter.getTimeout().toMillis());
+            asyncWebRequest.addTimeoutHandler(permit::release);
+            asyncWebRequest.addErrorHandler(ex -> permit.release());
+            asyncWebRequest.addCompletionHandler(permit::release);
+        } catch (RuntimeException ex) {
+            permit.release();
+            throw ex;
+        }
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("products." + normalized)
+                .build()
+                .toString())
+            .body(body);
+    }
+
+    /**
+     * Retrieve products with pagination, by page index or by cursor.
+     *
+     * @param page         zero-based page index, ignored when {@code after} is given
+     * @param size         number of items per page
+     * @param sort         sort field: id, price or name
+     * @param direction    sort direction: asc or desc
+     * @param after        cursor returned as nextCursor by the previous page
+     * @param includeTotal whether to compute totalElements and totalPages
      * @return HTTP 200 with {@link PaginatedProductResponseDto}
      */
     @Operation(
         summary     = "Fetch products paginated",
-        description = "Retrieve a paginated list of products, sorted by ID"
+        description = "Retrieve a paginated list of products sorted by ID, price or name. "
+                    + "Pass the nextCursor of a response as 'after' to fetch the following page "
+                    + "in constant time; totals are only computed when includeTotal is true"
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Products fetched successfully (paginated)",
@@ -160,13 +275,20 @@ public class ProductController {
                         "size": 1,
                         "totalElements": 100,
                         "totalPages": 100,
-                        "hasNext": true
+                        "hasNext": true,
+                        "nextCursor": "aWR8QVNDfDE"
                       }
                     }
                     """
                 )
             )
         ),
+        @ApiResponse(responseCode = "400", description = "Invalid page, size, sort, direction or cursor",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        ),
         @ApiResponse(responseCode = "404", description = "Page not found",
             content = @Content(
                 mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -183,9 +305,15 @@ public class ProductController {
     @GetMapping(value = "/paginated", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponseDto<PaginatedProductResponseDto>> getProductsPaginated(
         @Parameter(description = "Page index (0-based)", example = "0") @RequestParam(defaultValue = "0") int page,
-        @Parameter(description = "Number of items per page", example = "20") @RequestParam(defaultValue = "20") int size
+        @Parameter(description = "Number of items per page", example = "20") @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "Sort field: id, price or name", example = "price") @RequestParam(defaultValue = "id") String sort,
+        @Parameter(description = "Sort direction: asc or desc", example = "asc") @RequestParam(defaultValue = "asc") String direction,
+        @Parameter(description = "Cursor from the previous page's nextCursor") @RequestParam(required = false) String after,
+        @Parameter(description = "Whether to compute totalElements and totalPages", example = "false")
+        @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        PaginatedProductResponseDto paginated = productService.getProductsPaginated(page, size);
+        PaginatedProductResponseDto paginated =
+            productService.getProductsPaginated(page, size, sort, direction, after, includeTotal);
         ApiResponseDto<PaginatedProductResponseDto> response =
             new ApiResponseDto<>("Products fetched successfully (paginated)", HttpStatus.OK.value(), paginated);
         return ResponseEntity.ok(response);
@@ -199,7 +327,8 @@ public class ProductController {
      */
     @Operation(
         summary     = "Filter products by name",
-        description = "Retrieve products whose names contain the given query string"
+        description = "Retrieve products whose names contain the given query string. "
+                    + "With fuzzy=true, misspelled words also match similar product words"
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Products filtered successfully",
@@ -242,11 +371,195 @@ public class ProductController {
     @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponseDto<List<ProductResponseDto>>> findProductsByName(
         @Parameter(description = "Substring to search in product names", required = true)
-        @RequestParam String name
+        @RequestParam String name,
+        @Parameter(description = "Tolerate typos in the query", example = "false")
+        @RequestParam(defaultValue = "false") boolean fuzzy,
+        WebRequest webRequest
+    ) {
+        return catalogHttpCaching.ok(webRequest, () -> {
+            List<ProductResponseDto> products = productService.findProductsByName(name, fuzzy);
+            return new ApiResponseDto<>("Products filtered by name successfully", HttpStatus.OK.value(), products);
+        });
+    }
+
+    /**
+     * Search products by category, supplier, price, discount and stock,
+     * returning one page with facet counts.
+     *
+     * @param criteria filters, sort order and page to fetch
+     * @return HTTP 200 with {@link ProductSearchResponseDto}
+     */
+    @Operation(
+        summary     = "Search products with filters and facets",
+        description = "Filter products by category, supplier, price range, minimum discount and stock, "
+                    + "sorted by id, price, name or discount, with product counts per category and supplier"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Products searched successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(
+                    implementation = ApiResponseDto.class,
+                    subTypes       = { ProductSearchResponseDto.class }
+                ),
+                examples = @ExampleObject(value = """
+                    {
+                      "timestamp": "2025-05-06T16:45:00.000Z",
+                      "message": "Products searched successfully",
+                      "code": 200,
+                      "data": {
+                        "content": [
+                          {
+                            "id": 1,
+                            "name": "Laptop",
+                            "description": "Powerful laptop",
+                            "price": 1200.00,
+                            "stock": 50,
+                            "discount": 0.10,
+                            "imageUrl": "http://example.com/laptop.jpg",
+                            "categoryId": 1,
+                            "supplierId": 2
+                          }
+                        ],
+                        "page": 0,
+                        "size": 24,
+                        "totalElements": 1,
+                        "totalPages": 1,
+                        "hasNext": false,
+                        "categoryFacets": [
+                          { "id": 1, "name": "Electronics", "count": 1 },
+                          { "id": 4, "name": "Gaming", "count": 3 }
+                        ],
+                        "supplierFacets": [
+                          { "id": 2, "name": "TechSupplier", "count": 1 }
+                        ]
+                      }
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid filter, sort or page parameters",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        )
+    })
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDto<ProductSearchResponseDto>> searchProducts(
+        @Valid @ParameterObject ProductSearchCriteriaDto criteria,
+        WebRequest webRequest
+    ) {
+        return catalogHttpCaching.ok(webRequest, () -> {
+            ProductSearchResponseDto result = productService.searchProducts(criteria);
+            return new ApiResponseDto<>("Products searched successfully", HttpStatus.OK.value(), result);
+        });
+    }
+
+    /**
+     * Retrieve several products by ID in one request.
+     *
+     * @param ids identifiers of the products, in the desired order
+     * @return HTTP 200 with {@link ProductBatchResponseDto}
+     */
+    @Operation(
+        summary     = "Fetch products by IDs",
+        description = "Retrieve several products in request order; unknown IDs are listed in missingIds"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Products fetched successfully (batch)",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(
+                    implementation = ApiResponseDto.class,
+                    subTypes       = { ProductBatchResponseDto.class }
+                ),
+                examples = @ExampleObject(value = """
+                    {
+                      "timestamp": "2025-05-06T16:32:00.000Z",
+                      "message": "Products fetched successfully (batch)",
+                      "code": 200,
+                      "data": {
+                        "products": [
+                          {
+                            "id": 5,
+                            "name": "Bluetooth Headphones",
+                            "description": "Noise-cancelling over-ear headphones.",
+                            "price": 199.00,
+                            "stock": 80,
+                            "discount": 0.00,
+                            "imageUrl": "http://example.com/headphones.jpg",
+                            "categoryId": 1,
+                            "supplierId": 1
+                          }
+                        ],
+                        "missingIds": [ 42 ]
+                      }
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Too many IDs requested",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        )
+    })
+    @GetMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDto<ProductBatchResponseDto>> getProductsByIds(
+        @Parameter(description = "Comma separated product identifiers", required = true, example = "5,1,3")
+        @RequestParam List<Long> ids,
+        WebRequest webRequest
     ) {
-        List<ProductResponseDto> products = productService.findProductsByName(name);
-        ApiResponseDto<List<ProductResponseDto>> response =
-            new ApiResponseDto<>("Products filtered by name successfully", HttpStatus.OK.value(), products);
+        return catalogHttpCaching.ok(webRequest, () -> {
+            ProductBatchResponseDto batch = productService.getProductsByIds(ids);
+            return new ApiResponseDto<>("Products fetched successfully (batch)", HttpStatus.OK.value(), batch);
+        });
+    }
+
+    /**
+     * Retrieve several products by ID, with the IDs sent in the request body.
+     *
+     * @param requestDto payload with the identifiers of the products
+     * @return HTTP 200 with {@link ProductBatchResponseDto}
+     */
+    @Operation(
+        summary     = "Fetch products by IDs (body)",
+        description = "Same as the GET variant, for ID lists too long for a query string"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Products fetched successfully (batch)",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(
+                    implementation = ApiResponseDto.class,
+                    subTypes       = { ProductBatchResponseDto.class }
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid input or too many IDs requested",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        )
+    })
+    @PostMapping(
+        value    = "/batch",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<ApiResponseDto<ProductBatchResponseDto>> getProductsByIdsFromBody(
+        @Parameter(description = "Identifiers of the products", required = true,
+                   schema = @Schema(implementation = ProductBatchRequestDto.class))
+        @Valid @RequestBody ProductBatchRequestDto requestDto
+    ) {
+        ProductBatchResponseDto batch = productService.getProductsByIds(requestDto.getIds());
+        ApiResponseDto<ProductBatchResponseDto> response =
+            new ApiResponseDto<>("Products fetched successfully (batch)", HttpStatus.OK.value(), batch);
         return ResponseEntity.ok(response);
     }
 
@@ -299,12 +612,13 @@ public class ProductController {
     @GetMapping(value = "/{productId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponseDto<ProductResponseDto>> getProductById(
         @Parameter(description = "Identifier of the product", required = true)
-        @PathVariable Long productId
+        @PathVariable Long productId,
+        WebRequest webRequest
     ) {
-        ProductResponseDto product = productService.getProductById(productId);
-        ApiResponseDto<ProductResponseDto> response =
-            new ApiResponseDto<>("Product fetched successfully", HttpStatus.OK.value(), product);
-        return ResponseEntity.ok(response);
+        return catalogHttpCaching.ok(webRequest, () -> {
+            ProductResponseDto product = productService.getProductById(productId);
+            return new ApiResponseDto<>("Product fetched successfully", HttpStatus.OK.value(), product);
+        });
     }
 
     /**
@@ -0,0 +1,97 @@
+package com.ivay.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.ivay.dtos.api.ApiError;
+import com.ivay.dtos.api.ApiResponseDto;
+import com.ivay.dtos.searchdto.SuggestionDto;
+import com.ivay.service.SearchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.media.*;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * REST controller for catalog-wide search features.
+ *
+ * Provides the typeahead endpoint used by the storefront search box.
+ *
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping(value = "/api/search", produces = MediaType.APPLICATION_JSON_VALUE)
+@CrossOrigin(origins = {
+	    "http://localhost:3000",
+	    "http://localhost:3001",
+	    "http://localhost:5173",
+	    "http://localhost:5174",
+	    "http://localhost:5678"
+	})@Tag(name = "Search", description = "Endpoints for searching the catalog")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    /**
+     * Suggest product, category and supplier names for the typed text.
+     *
+     * @param q     the text typed so far
+     * @param limit maximum number of suggestions
+     * @return HTTP 200 with a list of {@link SuggestionDto}
+     */
+    @Operation(
+        summary     = "Suggest catalog names",
+        description = "Typeahead suggestions of products, categories and suppliers whose name, "
+                    + "or a word of it, starts with the given text; accent-insensitive and ranked by popularity"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Suggestions fetched successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(
+                    implementation = ApiResponseDto.class,
+                    subTypes       = { SuggestionDto.class }
+                ),
+                examples = @ExampleObject(value = """
+                    {
+                      "timestamp": "2025-05-06T15:00:00.123456",
+                      "message": "Suggestions fetched successfully",
+                      "code": 200,
+                      "data": [
+                        { "text": "Auriculares Bluetooth", "type": "PRODUCT", "id": 5 },
+                        { "text": "Audio", "type": "CATEGORY", "id": 3 }
+                      ]
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid limit",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ApiError.class)
+            )
+        )
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponseDto<List<SuggestionDto>>> suggest(
+        @Parameter(description = "Text typed so far", required = true, example = "auri")
+        @RequestParam String q,
+        @Parameter(description = "Maximum number of suggestions (1-10)", example = "10")
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<SuggestionDto> suggestions = searchService.suggest(q, limit);
+        ApiResponseDto<List<SuggestionDto>> response =
+            new ApiResponseDto<>("Suggestions fetched successfully", HttpStatus.OK.value(), suggestions);
+        return ResponseEntity.ok(response);
+    }
+}
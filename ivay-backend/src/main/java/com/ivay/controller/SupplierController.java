@@ -6,8 +6,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import com.ivay.dtos.supplierdto.SupplierProductsResponseDto;
 import com.ivay.dtos.supplierdto.SupplierRequestDto;
 import com.ivay.dtos.supplierdto.SupplierResponseDto;
 import com.ivay.dtos.api.ApiError;
@@ -15,20 +17,25 @@ import com.ivay.dtos.api.ApiResponseDto;
 import com.ivay.service.SupplierService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.*;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 /**
  * REST controller for managing suppliers.
  *
- * Provides endpoints to create, read, update, and delete suppliers.
+ * Provides endpoints to create, read, update, and delete suppliers,
+ * and to list the products of a supplier.
  *
  * @since 1.0.0
  */
 @RestController
+@Validated
 @RequestMapping(value = "/api/suppliers", produces = MediaType.APPLICATION_JSON_VALUE)
 @CrossOrigin(origins = {
 	    "http://localhost:3000",
@@ -139,6 +146,93 @@ public class SupplierController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Retrieve a page of the products of a supplier with its stock aggregates.
+     *
+     * @param id           supplier identifier
+     * @param page         zero-based page index, ignored when {@code after} is given
+     * @param size         number of products per page
+     * @param sort         sort field: id, price or name
+     * @param direction    sort direction: asc or desc
+     * @param after        cursor returned as nextCursor by the previous page
+     * @param includeTotal whether to compute totalElements and totalPages
+     * @return HTTP 200 with the {@link SupplierProductsResponseDto}
+     */
+    @Operation(
+        summary     = "Fetch products by supplier ID",
+        description = "Retrieve a page of the products of a supplier sorted by ID, price or name, with its "
+                    + "product count, stock units and stock value at current price. Pass the nextCursor of "
+                    + "a response as 'after' to fetch the following page"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Supplier products fetched successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(
+                    implementation = ApiResponseDto.class,
+                    subTypes       = { SupplierProductsResponseDto.class }
+                ),
+                examples = @ExampleObject(value = """
+                    {
+                      "timestamp":"2025-05-06T12:40:00.000000Z",
+                      "message":"Supplier products fetched successfully",
+                      "code":200,
+                      "data":{
+                        "supplierId":1,
+                        "summary":{
+                          "productCount":42,
+                          "totalStock":1310,
+                          "stockValue":285400.50
+                        },
+                        "products":{
+                          "content":[
+                            { "id":5, "name":"Smartphone", "price":699.99, "stock":20, "supplierId":1 }
+                          ],
+                          "page":0,
+                          "size":1,
+                          "hasNext":true,
+                          "nextCursor":"aWR8QVNDfDU"
+                        }
+                      }
+                    }
+                    """
+            )
+        )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid sort, direction, page, page size or cursor",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "Supplier or page not found",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema    = @Schema(implementation = ApiError.class)
+            )
+        )
+    })
+    @GetMapping("/{id}/products")
+    public ResponseEntity<ApiResponseDto<SupplierProductsResponseDto>> getProductsBySupplierId(
+        @PathVariable Long id,
+        @Parameter(description = "Page index (0-based)", example = "0")
+        @RequestParam(defaultValue = "0") @Min(value = 0, message = "Page cannot be negative") int page,
+        @Parameter(description = "Number of items per page, at most 100", example = "20")
+        @RequestParam(defaultValue = "20") @Min(value = 1, message = "Size must be at least 1")
+        @Max(value = 100, message = "Size must be at most 100") int size,
+        @Parameter(description = "Sort field: id, price or name", example = "name") @RequestParam(defaultValue = "id") String sort,
+        @Parameter(description = "Sort direction: asc or desc", example = "asc") @RequestParam(defaultValue = "asc") String direction,
+        @Parameter(description = "Cursor from the previous page's nextCursor") @RequestParam(required = false) String after,
+        @Parameter(description = "Whether to compute totalElements and totalPages", example = "false")
+        @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        SupplierProductsResponseDto products =
+            supplierService.getProductsBySupplierId(id, page, size, sort, direction, after, includeTotal);
+        ApiResponseDto<SupplierProductsResponseDto> response =
+            new ApiResponseDto<>("Supplier products fetched successfully", HttpStatus.OK.value(), products);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Create a new supplier.
      *
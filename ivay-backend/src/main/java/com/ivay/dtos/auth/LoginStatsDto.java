@@ -0,0 +1,72 @@
+package com.ivay.dtos.auth;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO with the load of the login pipeline.
+ *
+ * Counters are cumulative since application start; the executor figures are
+ * a snapshot taken when the statistics were requested.
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class LoginStatsDto {
+
+    /**
+     * Number of threads verifying passwords.
+     */
+    private int verifierThreads;
+
+    /**
+     * Number of password verifications running right now.
+     */
+    private int activeVerifications;
+
+    /**
+     * Number of password verifications waiting for a thread.
+     */
+    private int queuedVerifications;
+
+    /**
+     * Maximum number of password verifications that may wait for a thread.
+     */
+    private int queueCapacity;
+
+    /**
+     * Number of passwords verified.
+     */
+    private long completedVerifications;
+
+    /**
+     * Number of logins rejected with 503 because the queue was full.
+     */
+    private long rejectedVerifications;
+
+    /**
+     * Number of logins rejected with 503 because the verification did not finish in time.
+     */
+    private long timedOutVerifications;
+
+    /**
+     * Average time spent hashing one password, in milliseconds.
+     */
+    private double averageHashMillis;
+
+    /**
+     * Longest time spent hashing one password, in milliseconds.
+     */
+    private double maxHashMillis;
+
+    /**
+     * Number of logins rejected with 429 by the per-address limit.
+     */
+    private long throttledByAddress;
+
+    /**
+     * Number of logins rejected with 429 by the per-username limit.
+     */
+    private long throttledByUsername;
+}
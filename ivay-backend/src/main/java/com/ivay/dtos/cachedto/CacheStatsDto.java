@@ -0,0 +1,73 @@
+package com.ivay.dtos.cachedto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Response DTO with the usage statistics of one in-memory cache.
+ *
+ * Counters are cumulative since application start.
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class CacheStatsDto {
+
+    /**
+     * Approximate number of entries currently held.
+     */
+    private long size;
+
+    /**
+     * Number of lookups served from the cache.
+     */
+    private long hitCount;
+
+    /**
+     * Number of lookups that had to load the value.
+     */
+    private long missCount;
+
+    /**
+     * Ratio of hits to total lookups, 1.0 when there were no lookups.
+     */
+    private double hitRate;
+
+    /**
+     * Number of entries removed because of size or expiration.
+     */
+    private long evictionCount;
+
+    /**
+     * Number of loads that failed, e.g. because the resource did not exist.
+     */
+    private long loadFailureCount;
+
+    /**
+     * Average time spent loading a value, in milliseconds.
+     */
+    private double averageLoadMillis;
+
+    /**
+     * Builds the DTO from a Caffeine cache created with {@code recordStats()}.
+     *
+     * @param cache the cache to describe
+     * @return a snapshot of its statistics
+     */
+    public static CacheStatsDto of(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        CacheStatsDto dto = new CacheStatsDto();
+        dto.setSize(cache.estimatedSize());
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setLoadFailureCount(stats.loadFailureCount());
+        dto.setAverageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0);
+        return dto;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ivay.dtos.cartitemdto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO describing one line of a cart sent as a whole.
+ *
+ * Contains the product identifier and the desired quantity,
+ * with validation constraints to ensure both are present and
+ * the quantity is at least 1.
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class CartLineRequestDto {
+
+    /**
+     * Identifier of the product in the cart.
+     * Must not be null.
+     */
+    @NotNull(message = "El ID del producto es obligatorio")
+    private Long productId;
+
+    /**
+     * Desired quantity of the product.
+     * Must not be null and must be at least 1.
+     */
+    @NotNull(message = "La cantidad es obligatoria")
+    @Min(value = 1, message = "La cantidad debe ser al menos 1")
+    private Integer quantity;
+}
@@ -0,0 +1,89 @@
+package com.ivay.dtos.cartitemdto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Response DTO representing a cart line together with its product data.
+ *
+ * Populated directly by a JPQL constructor projection, so the cart can be
+ * rendered without fetching each product separately. Contains:
+ * id, productId, name, price, discount, imageUrl, stock, quantity and lineTotal.
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class CartViewItemDto {
+
+    /**
+     * Unique identifier of the cart item.
+     */
+    private Long id;
+
+    /**
+     * Identifier of the product in the cart.
+     */
+    private Long productId;
+
+    /**
+     * Name of the product.
+     */
+    private String name;
+
+    /**
+     * Current unit price of the product.
+     */
+    private BigDecimal price;
+
+    /**
+     * Discount currently applied to the product price.
+     */
+    private BigDecimal discount;
+
+    /**
+     * URL pointing to the product image.
+     */
+    private String imageUrl;
+
+    /**
+     * Available stock of the product.
+     */
+    private Integer stock;
+
+    /**
+     * Quantity of the product in the cart.
+     */
+    private Integer quantity;
+
+    /**
+     * Price for this line after applying discount and quantity.
+     */
+    private BigDecimal lineTotal;
+
+    /**
+     * Constructor used by the JPQL projection; {@code lineTotal} is filled in by the service.
+     *
+     * @param id        identifier of the cart item
+     * @param productId identifier of the product
+     * @param name      name of the product
+     * @param price     unit price of the product
+     * @param discount  discount of the product
+     * @param imageUrl  image URL of the product
+     * @param stock     available stock of the product
+     * @param quantity  quantity in the cart
+     */
+    public CartViewItemDto(Long id, Long productId, String name, BigDecimal price,
+                           BigDecimal discount, String imageUrl, Integer stock, Integer quantity) {
+        this.id        = id;
+        this.productId = productId;
+        this.name      = name;
+        this.price     = price;
+        this.discount  = discount;
+        this.imageUrl  = imageUrl;
+        this.stock     = stock;
+        this.quantity  = quantity;
+    }
+}
@@ -0,0 +1,49 @@
+package com.ivay.dtos.cartitemdto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Response DTO representing a whole cart ready to be displayed.
+ *
+ * Fields:
+ * - items: cart lines with embedded product data
+ * - totalQuantity: sum of the quantities of all lines
+ * - subtotal: sum of price times quantity, before discounts
+ * - discountTotal: amount saved through product discounts
+ * - total: sum of all line totals
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class CartViewResponseDto {
+
+    /**
+     * Cart lines with their product data.
+     */
+    private List<CartViewItemDto> items;
+
+    /**
+     * Total number of units in the cart.
+     */
+    private int totalQuantity;
+
+    /**
+     * Cart amount before product discounts.
+     */
+    private BigDecimal subtotal;
+
+    /**
+     * Amount discounted from the subtotal.
+     */
+    private BigDecimal discountTotal;
+
+    /**
+     * Cart amount after product discounts.
+     */
+    private BigDecimal total;
+}
@@ -0,0 +1,30 @@
+package com.ivay.dtos.cartitemdto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for replacing the whole cart of the authenticated user.
+ *
+ * The list describes the desired final state of the cart: products not
+ * listed are removed, listed ones are inserted or have their quantity set.
+ * An empty list clears the cart.
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class ReplaceCartRequestDto {
+
+    /**
+     * Desired cart lines.
+     * Must not be null; each line is validated.
+     */
+    @NotNull(message = "La lista de productos es obligatoria")
+    @Valid
+    private List<CartLineRequestDto> items;
+}
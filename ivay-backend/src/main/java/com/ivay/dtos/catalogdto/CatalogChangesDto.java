@@ -0,0 +1,69 @@
+package com.ivay.dtos.catalogdto;
+
+import com.ivay.dtos.categorydto.CategoryResponseDto;
+import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.dtos.supplierdto.SupplierResponseDto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for the catalog change feed.
+ *
+ * Fields:
+ * - version: catalog version the response is complete up to; pass it as
+ *   {@code since} on the next poll
+ * - hasMore: whether later changes were left out to respect the limit
+ * - products, categories, suppliers: entities created or updated after {@code since}
+ * - deletedProductIds, deletedCategoryIds, deletedSupplierIds: entities deleted
+ *   after {@code since}
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class CatalogChangesDto {
+
+    /**
+     * Catalog version this response is complete up to.
+     */
+    private long version;
+
+    /**
+     * Whether changes after {@code version} were left out; if so, poll
+     * again right away with {@code since} set to {@code version}.
+     */
+    private boolean hasMore;
+
+    /**
+     * Products created or updated since the requested version, by id.
+     */
+    private List<ProductResponseDto> products;
+
+    /**
+     * Categories created or updated since the requested version, by id.
+     */
+    private List<CategoryResponseDto> categories;
+
+    /**
+     * Suppliers created or updated since the requested version, by id.
+     */
+    private List<SupplierResponseDto> suppliers;
+
+    /**
+     * Identifiers of the products deleted since the requested version.
+     */
+    private List<Long> deletedProductIds;
+
+    /**
+     * Identifiers of the categories deleted since the requested version.
+     */
+    private List<Long> deletedCategoryIds;
+
+    /**
+     * Identifiers of the suppliers deleted since the requested version.
+     */
+    private List<Long> deletedSupplierIds;
+}
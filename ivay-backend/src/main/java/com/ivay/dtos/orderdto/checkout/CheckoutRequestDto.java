@@ -0,0 +1,32 @@
+package com.ivay.dtos.orderdto.checkout;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO for turning the authenticated user's cart into an order.
+ *
+ * The order lines are taken from the cart on the server, so this DTO
+ * only carries the order level fields:
+ * - paymentMethod: chosen method of payment
+ * - globalDiscount: discount applied to the entire order
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class CheckoutRequestDto {
+
+    /**
+     * Payment method for the order (for example "CREDIT_CARD" or "PAYPAL").
+     */
+    private String paymentMethod;
+
+    /**
+     * Discount to apply to the entire order before tax.
+     * Defaults to zero when omitted.
+     */
+    private BigDecimal globalDiscount;
+}
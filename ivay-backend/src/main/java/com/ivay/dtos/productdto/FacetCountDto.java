@@ -0,0 +1,32 @@
+package com.ivay.dtos.productdto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO with the number of matching products for one facet value,
+ * such as a category or a supplier.
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDto {
+
+    /**
+     * Identifier of the facet value (category or supplier id).
+     */
+    private Long id;
+
+    /**
+     * Display name of the facet value.
+     */
+    private String name;
+
+    /**
+     * Number of products matching the other filters with this value.
+     */
+    private Long count;
+}
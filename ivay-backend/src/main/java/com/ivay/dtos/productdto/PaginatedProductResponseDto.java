@@ -12,11 +12,12 @@ import lombok.NoArgsConstructor;
  *
  * Fields:
  * - content: list of products on this page
- * - page: current page index (0-based)
+ * - page: current page index (0-based), null when paging by cursor
  * - size: number of items per page
- * - totalElements: total number of products available
- * - totalPages: total number of pages available
+ * - totalElements: total number of products available, only when requested
+ * - totalPages: total number of pages available, only when requested
  * - hasNext: whether there is a subsequent page
+ * - nextCursor: opaque cursor to pass as "after" for the next page
  *
  * @since 1.0.0
  */
@@ -31,8 +32,9 @@ public class PaginatedProductResponseDto {
 
     /**
      * Current page index (0-based).
+     * Null when the page was requested with a cursor.
      */
-    private int page;
+    private Integer page;
 
     /**
      * Number of items per page.
@@ -41,16 +43,24 @@ public class PaginatedProductResponseDto {
 
     /**
      * Total number of elements across all pages.
+     * Null unless the client asked for the total.
      */
-    private long totalElements;
+    private Long totalElements;
 
     /**
      * Total number of pages available.
+     * Null unless the client asked for the total.
      */
-    private int totalPages;
+    private Integer totalPages;
 
     /**
      * Indicates if there is a next page available.
      */
     private boolean hasNext;
+
+    /**
+     * Cursor pointing after the last product of this page, or null if there is no next page.
+     * Only valid with the same sort field and direction.
+     */
+    private String nextCursor;
 }
@@ -0,0 +1,27 @@
+package com.ivay.dtos.productdto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for looking up several products at once.
+ *
+ * Used by the POST variant of the batch lookup, for id lists
+ * too long to fit comfortably in a query string.
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class ProductBatchRequestDto {
+
+    /**
+     * Identifiers of the products to retrieve, in the desired order.
+     * Must not be null.
+     */
+    @NotNull(message = "Product ids cannot be null")
+    private List<Long> ids;
+}
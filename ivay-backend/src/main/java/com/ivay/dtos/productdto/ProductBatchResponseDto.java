@@ -0,0 +1,30 @@
+package com.ivay.dtos.productdto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch product lookup.
+ *
+ * Fields:
+ * - products: the products found, in the order their ids were requested
+ * - missingIds: requested ids that do not match any product
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class ProductBatchResponseDto {
+
+    /**
+     * Products found, in request order.
+     */
+    private List<ProductResponseDto> products;
+
+    /**
+     * Requested identifiers for which no product exists.
+     */
+    private List<Long> missingIds;
+}
@@ -0,0 +1,80 @@
+package com.ivay.dtos.productdto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Query parameters of the faceted product search.
+ *
+ * Every filter is optional; unset filters do not restrict the result.
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class ProductSearchCriteriaDto {
+
+    /**
+     * Only products of this category.
+     */
+    private Long categoryId;
+
+    /**
+     * Only products of this supplier.
+     */
+    private Long supplierId;
+
+    /**
+     * Minimum price, inclusive.
+     */
+    @DecimalMin(value = "0.0", message = "Minimum price cannot be negative")
+    private BigDecimal minPrice;
+
+    /**
+     * Maximum price, inclusive.
+     */
+    @DecimalMin(value = "0.0", message = "Maximum price cannot be negative")
+    private BigDecimal maxPrice;
+
+    /**
+     * Minimum discount, inclusive, as a fraction (0.10 means 10%).
+     */
+    @DecimalMin(value = "0.0", message = "Minimum discount cannot be negative")
+    private BigDecimal minDiscount;
+
+    /**
+     * Only products with stock left.
+     */
+    private boolean inStock;
+
+    /**
+     * Sort field: id, price, name or discount.
+     */
+    @Pattern(regexp = "id|price|name|discount", message = "Sort must be one of id, price, name, discount")
+    private String sort = "id";
+
+    /**
+     * Sort direction: asc or desc.
+     */
+    @Pattern(regexp = "(?i)asc|desc", message = "Direction must be asc or desc")
+    private String direction = "asc";
+
+    /**
+     * Zero-based page index.
+     */
+    @Min(value = 0, message = "Page cannot be negative")
+    private int page = 0;
+
+    /**
+     * Number of products per page.
+     */
+    @Min(value = 1, message = "Size must be at least 1")
+    @Max(value = 100, message = "Size must be at most 100")
+    private int size = 24;
+}
@@ -0,0 +1,69 @@
+package com.ivay.dtos.productdto;
+
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for the faceted product search.
+ *
+ * Contains one page of matching products, pagination metadata and
+ * the facet counts used to render the filter sidebar.
+ *
+ * Fields:
+ * - content: products on this page
+ * - page: current page index (0-based)
+ * - size: number of items per page
+ * - totalElements: number of products matching all filters
+ * - totalPages: total number of pages available
+ * - hasNext: whether there is a subsequent page
+ * - categoryFacets: matching products per category, ignoring the category filter
+ * - supplierFacets: matching products per supplier, ignoring the supplier filter
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class ProductSearchResponseDto {
+
+    /**
+     * Products on the current page.
+     */
+    private List<ProductResponseDto> content;
+
+    /**
+     * Current page index (0-based).
+     */
+    private int page;
+
+    /**
+     * Number of items per page.
+     */
+    private int size;
+
+    /**
+     * Number of products matching all filters.
+     */
+    private long totalElements;
+
+    /**
+     * Total number of pages available.
+     */
+    private int totalPages;
+
+    /**
+     * Indicates if there is a next page available.
+     */
+    private boolean hasNext;
+
+    /**
+     * Matching products per category, computed without the category filter
+     * so the client can show how many results each alternative would give.
+     */
+    private List<FacetCountDto> categoryFacets;
+
+    /**
+     * Matching products per supplier, computed without the supplier filter.
+     */
+    private List<FacetCountDto> supplierFacets;
+}
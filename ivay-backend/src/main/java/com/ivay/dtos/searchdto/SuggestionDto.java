@@ -0,0 +1,36 @@
+package com.ivay.dtos.searchdto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a single search box suggestion.
+ *
+ * Fields:
+ * - text: name to display and to search for when selected
+ * - type: kind of entity suggested: PRODUCT, CATEGORY or SUPPLIER
+ * - id: identifier of the suggested entity
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDto {
+
+    /**
+     * Name of the suggested entity.
+     */
+    private String text;
+
+    /**
+     * Kind of the suggested entity: PRODUCT, CATEGORY or SUPPLIER.
+     */
+    private String type;
+
+    /**
+     * Identifier of the suggested entity.
+     */
+    private Long id;
+}
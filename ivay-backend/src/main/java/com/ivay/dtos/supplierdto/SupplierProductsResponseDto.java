@@ -0,0 +1,36 @@
+package com.ivay.dtos.supplierdto;
+
+import com.ivay.dtos.productdto.PaginatedProductResponseDto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for the product listing of a supplier.
+ *
+ * Fields:
+ * - supplierId: identifier of the supplier
+ * - summary: stock aggregates over all of the supplier's products
+ * - products: the requested page of those products
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class SupplierProductsResponseDto {
+
+    /**
+     * Identifier of the supplier.
+     */
+    private Long supplierId;
+
+    /**
+     * Aggregates over every product of the supplier, not only this page.
+     */
+    private SupplierStockSummaryDto summary;
+
+    /**
+     * The requested page of the supplier's products.
+     */
+    private PaginatedProductResponseDto products;
+}
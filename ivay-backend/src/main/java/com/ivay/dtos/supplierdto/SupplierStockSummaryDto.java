@@ -0,0 +1,50 @@
+package com.ivay.dtos.supplierdto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Response DTO with the stock aggregates of one supplier's products.
+ *
+ * Fields:
+ * - productCount: number of products of the supplier
+ * - totalStock: sum of the stock units of those products
+ * - stockValue: sum of stock times current price, ignoring products without a price
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+public class SupplierStockSummaryDto {
+
+    /**
+     * Number of products provided by the supplier.
+     */
+    private Long productCount;
+
+    /**
+     * Total stock units across the supplier's products.
+     */
+    private Long totalStock;
+
+    /**
+     * Value of that stock at the current product prices.
+     */
+    private BigDecimal stockValue;
+
+    /**
+     * Creates the summary from the aggregate query, where the sums are
+     * null when the supplier has no products.
+     *
+     * @param productCount number of products
+     * @param totalStock   sum of stock units, or null
+     * @param stockValue   sum of stock times price, or null
+     */
+    public SupplierStockSummaryDto(Long productCount, Long totalStock, BigDecimal stockValue) {
+        this.productCount = productCount;
+        this.totalStock = totalStock != null ? totalStock : 0L;
+        this.stockValue = stockValue != null ? stockValue : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,88 @@
+package com.ivay.dtos.userdto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import com.ivay.entity.Role;
+import com.ivay.entity.UserEntity;
+
+/**
+ * Immutable snapshot of a user account and its role, as held by the user cache.
+ *
+ * Carries what authentication and ownership checks need without a managed
+ * entity, so one instance can be shared between requests. Includes the
+ * password hash for building Spring Security's UserDetails; never returned
+ * to clients.
+ *
+ * @since 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class UserAccountDto {
+
+    private final Long id;
+
+    private final String name;
+
+    private final String fullName;
+
+    private final String email;
+
+    private final String password;
+
+    private final String phone;
+
+    private final String userAddress;
+
+    private final Boolean isEnabled;
+
+    private final Boolean accountNoExpired;
+
+    private final Boolean accountNoLocked;
+
+    private final Boolean credentialNoExpired;
+
+    /**
+     * Identifier of the role, or null if the user has none.
+     */
+    private final Long roleId;
+
+    /**
+     * Name of the role without the "ROLE_" prefix, or null if the user has none.
+     */
+    private final String roleName;
+
+    /**
+     * Copies a user entity; its role must be initialized or the session open.
+     *
+     * @param user the user to copy
+     * @return the snapshot
+     */
+    public static UserAccountDto of(UserEntity user) {
+        Role role = user.getRole();
+        return new UserAccountDto(
+            user.getId(),
+            user.getName(),
+            user.getFullName(),
+            user.getEmail(),
+            user.getPassword(),
+            user.getPhone(),
+            user.getUserAddress(),
+            user.getIsEnabled(),
+            user.getAccountNoExpired(),
+            user.getAccountNoLocked(),
+            user.getCredentialNoExpired(),
+            role != null ? role.getId() : null,
+            role != null ? role.getRoleName() : null
+        );
+    }
+
+    /**
+     * Whether the user has one of the administrator roles.
+     *
+     * @return true for ADMIN and SUPERADMIN
+     */
+    public boolean isAdmin() {
+        return "ADMIN".equals(roleName) || "SUPERADMIN".equals(roleName);
+    }
+}
@@ -20,10 +20,12 @@ import lombok.Data;
 public class CartItem {
 
     /**
-     * Primary key, auto-generated identifier of the cart item.
+     * Primary key, pooled identifier of the cart item.
+     * Drawn from the cart_items_seq table in blocks of 50.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_items_seq")
+    @SequenceGenerator(name = "cart_items_seq", sequenceName = "cart_items_seq", allocationSize = 50)
     private Long id;
 
     /**
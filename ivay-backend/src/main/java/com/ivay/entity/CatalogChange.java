@@ -0,0 +1,75 @@
+package com.ivay.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * JPA entity recording the last catalog version at which a product,
+ * category or supplier was written.
+ *
+ * Maps to the "catalog_changes" table, with one row per entity ever
+ * tracked, and contains:
+ * - entityType: "PRODUCT", "CATEGORY" or "SUPPLIER"
+ * - entityId: identifier of the entity
+ * - version: catalog version of the last committed write to the entity
+ * - deleted: whether that write deleted the entity (a tombstone)
+ *
+ * @since 1.0.0
+ */
+@Data
+@Entity
+@IdClass(CatalogChange.Key.class)
+@Table(
+    name = "catalog_changes",
+    indexes = @Index(name = "idx_catalog_changes_version", columnList = "version")
+)
+public class CatalogChange {
+
+    public static final String PRODUCT  = "PRODUCT";
+    public static final String CATEGORY = "CATEGORY";
+    public static final String SUPPLIER = "SUPPLIER";
+
+    /**
+     * Kind of entity, part of the primary key.
+     * Maximum length is 20 characters.
+     */
+    @Id
+    @Column(length = 20)
+    private String entityType;
+
+    /**
+     * Identifier of the entity, part of the primary key.
+     */
+    @Id
+    private Long entityId;
+
+    /**
+     * Catalog version of the last committed write to the entity.
+     */
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Whether the entity was deleted by that write.
+     */
+    @Column(nullable = false)
+    private boolean deleted;
+
+    /**
+     * Composite primary key of {@link CatalogChange}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String entityType;
+        private Long entityId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ivay.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * JPA entity holding the current catalog version.
+ *
+ * Maps to the "catalog_version" table, which has a single row, and contains:
+ * - id: always 1
+ * - version: the highest catalog version handed out so far
+ *
+ * The row is incremented at the end of every transaction that writes to the
+ * catalog; its row lock orders those transactions, so versions become visible
+ * in increasing order.
+ *
+ * @since 1.0.0
+ */
+@Data
+@Entity
+@Table(name = "catalog_version")
+public class CatalogVersionCounter {
+
+    /**
+     * Primary key, always 1.
+     */
+    @Id
+    private Integer id;
+
+    /**
+     * Highest catalog version handed out so far.
+     */
+    @Column(nullable = false)
+    private Long version;
+}
@@ -0,0 +1,91 @@
+package com.ivay.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity recording the outcome of a request submitted with an
+ * {@code Idempotency-Key} header.
+ *
+ * Maps to the "idempotency_keys" table and contains:
+ * - id: the client key, scoped to the submitting user
+ * - requestDigest: SHA-256 of the request body the key was first used with
+ * - response: serialized response returned for the key
+ * - createdAt: date and time when the key was first processed
+ * - expiresAt: date and time after which the key may be reused
+ *
+ * The id is assigned by the application, so the entity implements
+ * {@link Persistable} to be inserted with a plain INSERT: saving a key that
+ * another instance stored first fails on the primary key instead of being
+ * merged over the winner's row.
+ *
+ * @since 1.0.0
+ */
+@Data
+@Entity
+@Table(
+    name = "idempotency_keys",
+    indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expiresAt")
+)
+public class IdempotencyKey implements Persistable<String> {
+
+    /**
+     * Primary key, composed of the user id and the client supplied key.
+     * Maximum length is 150 characters.
+     */
+    @Id
+    @Column(length = 150)
+    private String id;
+
+    /**
+     * Hex SHA-256 digest of the canonical JSON of the request body
+     * originally submitted with this key.
+     */
+    @Column(length = 64)
+    private String requestDigest;
+
+    /**
+     * JSON representation of the response returned for this key.
+     * Stored as TEXT in the database.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String response;
+
+    /**
+     * Date and time when the key was first processed.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Date and time after which the key is no longer honoured.
+     */
+    private LocalDateTime expiresAt;
+
+    /**
+     * Whether the key was loaded from or written to the database.
+     */
+    @Transient
+    private boolean persisted;
+
+    /**
+     * {@inheritDoc}
+     *
+     * A key is new until it was loaded or persisted, so saving it always inserts.
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    /**
+     * Marks the key as stored once loaded or inserted.
+     */
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
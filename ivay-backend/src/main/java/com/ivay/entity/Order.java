@@ -36,10 +36,12 @@ import java.util.List;
 public class Order {
 
     /**
-     * Primary key, auto-generated identifier of the order.
+     * Primary key, pooled identifier of the order.
+     * Drawn from the orders_seq table in blocks of 50.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     /**
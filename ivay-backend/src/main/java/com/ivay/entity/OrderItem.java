@@ -25,10 +25,13 @@ import java.math.BigDecimal;
 public class OrderItem {
 
     /**
-     * Primary key, auto-generated identifier of the order item.
+     * Primary key, pooled identifier of the order item.
+     * Drawn from the order_items_seq table in blocks of 50, which lets the
+     * items cascaded from an order be inserted as one JDBC batch.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -24,20 +24,43 @@ import java.util.List;
  * - orderItems: list of order items associated with this product
  * - cartItems: list of cart items associated with this product
  *
+ * The (price, id) and (name, id) indexes back keyset pagination; the
+ * category, supplier and discount indexes back the faceted search filters
+ * and, together with the (category, id), (category, name, id), (supplier, id)
+ * and (supplier, name, id) indexes, the paged product listings of a category
+ * or a supplier. The supplier stock aggregates seek on the (supplier, id)
+ * index; stock is kept out of every secondary index so that stock
+ * decrements on checkout do not have to maintain one.
+ *
  * @since 1.0.0
  */
 @Data
 @ToString(exclude = {"orderItems", "cartItems"})
 @EqualsAndHashCode(exclude = {"orderItems", "cartItems"})
 @Entity
-@Table(name = "products")
+@Table(
+    name = "products",
+    indexes = {
+        @Index(name = "idx_products_price_id", columnList = "price, id"),
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        @Index(name = "idx_products_category_id", columnList = "category_id, id"),
+        @Index(name = "idx_products_category_name", columnList = "category_id, name, id"),
+        @Index(name = "idx_products_category_price", columnList = "category_id, price, id"),
+        @Index(name = "idx_products_supplier_price", columnList = "supplier_id, price, id"),
+        @Index(name = "idx_products_supplier_id", columnList = "supplier_id, id"),
+        @Index(name = "idx_products_supplier_name", columnList = "supplier_id, name, id"),
+        @Index(name = "idx_products_discount", columnList = "discount, id")
+    }
+)
 public class Product {
 
     /**
-     * Primary key, auto-generated identifier of the product.
+     * Primary key, pooled identifier of the product.
+     * Drawn from the products_seq table in blocks of 50.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -0,0 +1,35 @@
+package com.ivay.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * JPA entity holding the current stock epoch.
+ *
+ * Maps to the "stock_epoch" table, which has a single row, and contains:
+ * - id: always 1
+ * - epoch: number of committed transactions that changed stock outside of
+ *   catalog writes, such as placed orders
+ *
+ * The row is incremented just before such a transaction commits, so the
+ * epoch is shared by every instance and survives restarts.
+ *
+ * @since 1.0.0
+ */
+@Data
+@Entity
+@Table(name = "stock_epoch")
+public class StockEpochCounter {
+
+    /**
+     * Primary key, always 1.
+     */
+    @Id
+    private Integer id;
+
+    /**
+     * Current stock epoch.
+     */
+    @Column(nullable = false)
+    private Long epoch;
+}
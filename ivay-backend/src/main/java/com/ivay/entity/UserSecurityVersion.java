@@ -0,0 +1,38 @@
+package com.ivay.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * JPA entity holding the security version of one user.
+ *
+ * Maps to the "user_security_versions" table and contains:
+ * - userId: identifier of the user, primary key
+ * - version: incremented whenever the user's name, status or role changes,
+ *   or the user is deleted
+ *
+ * Tokens carry the version current when they were issued and are rejected
+ * once it moves on. Users whose security state never changed have no row
+ * and are at version 0, so the table stays small. Rows are not removed when
+ * the user is deleted, which keeps that user's tokens revoked.
+ *
+ * @since 1.0.0
+ */
+@Data
+@Entity
+@Table(name = "user_security_versions")
+public class UserSecurityVersion {
+
+    /**
+     * Identifier of the user; deliberately not a foreign key.
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * Current security version of the user.
+     */
+    @Column(nullable = false)
+    private Long version;
+}
@@ -0,0 +1,20 @@
+package com.ivay.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a role is updated, which changes the authorities of every
+ * user holding it.
+ *
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class RoleChangedEvent {
+
+    /**
+     * Identifier of the role.
+     */
+    private final Long roleId;
+}
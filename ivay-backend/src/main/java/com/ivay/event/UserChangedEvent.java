@@ -0,0 +1,33 @@
+package com.ivay.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a user account is updated or deleted.
+ *
+ * Listeners holding copies of the account drop them once the publishing
+ * transaction commits.
+ *
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+    /**
+     * Identifier of the user.
+     */
+    private final Long userId;
+
+    /**
+     * Username of the account before the change.
+     */
+    private final String previousName;
+
+    /**
+     * Username of the account after the change; same as the previous one
+     * unless the user was renamed.
+     */
+    private final String name;
+}
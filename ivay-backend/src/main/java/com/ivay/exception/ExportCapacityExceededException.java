@@ -0,0 +1,38 @@
+package com.ivay.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when an export cannot start because the maximum number
+ * of concurrent exports is already running.
+ *
+ * Mapped to HTTP 503 with a Retry-After header.
+ *
+ * @since 1.0.0
+ */
+public class ExportCapacityExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new ExportCapacityExceededException.
+     *
+     * @param message    the detail message
+     * @param retryAfter suggested wait before retrying
+     */
+    public ExportCapacityExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the suggested wait before retrying.
+     *
+     * @return the wait before retrying
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ivay.exception;
+
+/**
+ * Exception thrown when an order cannot be fulfilled because a product
+ * does not have enough stock left.
+ *
+ * Raised by the guarded stock decrement when the conditional update
+ * affects no rows, so the request is rejected without overselling.
+ *
+ * @since 1.0.0
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new InsufficientStockException with the specified detail message.
+     *
+     * @param message the detail message explaining which product ran out of stock
+     */
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new InsufficientStockException with the specified detail message and cause.
+     *
+     * @param message the detail message explaining which product ran out of stock
+     * @param cause   the original exception that led to this error, if any
+     */
+    public InsufficientStockException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.ivay.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a password cannot be verified because the login
+ * executor is saturated.
+ *
+ * Raised when its queue is full or the verification does not start in time,
+ * and mapped to HTTP 503 with a Retry-After header.
+ *
+ * @since 1.0.0
+ */
+public class LoginCapacityExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new LoginCapacityExceededException.
+     *
+     * @param message    the detail message
+     * @param retryAfter suggested wait before retrying
+     */
+    public LoginCapacityExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the suggested wait before retrying.
+     *
+     * @return the wait before retrying
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
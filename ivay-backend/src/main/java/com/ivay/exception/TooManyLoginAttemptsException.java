@@ -0,0 +1,38 @@
+package com.ivay.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a client or username has used up its login attempts.
+ *
+ * Raised by the login throttle before the password is checked, and mapped
+ * to HTTP 429 with a Retry-After header.
+ *
+ * @since 1.0.0
+ */
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new TooManyLoginAttemptsException.
+     *
+     * @param message    the detail message
+     * @param retryAfter time until the next attempt is allowed
+     */
+    public TooManyLoginAttemptsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the time until the next attempt is allowed.
+     *
+     * @return the wait before retrying
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
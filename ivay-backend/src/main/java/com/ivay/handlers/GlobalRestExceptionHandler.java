@@ -1,5 +1,6 @@
 package com.ivay.handlers;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,7 +17,11 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import com.ivay.dtos.api.ApiError;
+import com.ivay.exception.ExportCapacityExceededException;
+import com.ivay.exception.InsufficientStockException;
+import com.ivay.exception.LoginCapacityExceededException;
 import com.ivay.exception.ResourceNotFoundException;
+import com.ivay.exception.TooManyLoginAttemptsException;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +35,10 @@ import lombok.extern.slf4j.Slf4j;
  * - NoHandlerFoundException for unmatched endpoints (404)
  * - MethodArgumentNotValidException for validation failures (400)
  * - ResourceNotFoundException for missing resources (404)
+ * - InsufficientStockException for orders exceeding available stock (409)
+ * - TooManyLoginAttemptsException for throttled logins (429, with Retry-After)
+ * - LoginCapacityExceededException for logins rejected under load (503, with Retry-After)
+ * - ExportCapacityExceededException for exports beyond the concurrency limit (503, with Retry-After)
  * - ConstraintViolationException for constraint violations (400)
  * - IllegalArgumentException for invalid arguments (400)
  * - AccessDeniedException for insufficient permissions (403)
@@ -114,6 +123,110 @@ public class GlobalRestExceptionHandler extends ResponseEntityExceptionHandler {
 		return new ResponseEntity<>(apiError, new HttpHeaders(), apiError.getStatus());
 	}
 
+	/**
+	 * Handles InsufficientStockException when an order exceeds available stock.
+	 *
+	 * Uses HTTP status 409 and returns an ApiError with an "Insufficient Stock" detail.
+	 *
+	 * @param ex the InsufficientStockException thrown by application code
+	 * @param request the current web request
+	 * @return a ResponseEntity containing the ApiError and status 409
+	 */
+	@ExceptionHandler(InsufficientStockException.class)
+	public ResponseEntity<ApiError> handleInsufficientStockException(
+			InsufficientStockException ex,
+			WebRequest request) {
+		log.info(ex.getClass().getName());
+		ApiError apiError = new ApiError(
+				HttpStatus.CONFLICT,
+				ex.getLocalizedMessage(),
+				"Insufficient Stock"
+				);
+		return new ResponseEntity<>(apiError, new HttpHeaders(), apiError.getStatus());
+	}
+
+	/**
+	 * Handles TooManyLoginAttemptsException when a client or username is throttled.
+	 *
+	 * Uses HTTP status 429 and returns an ApiError with a "Too Many Requests" detail,
+	 * and a Retry-After header in whole seconds.
+	 *
+	 * @param ex the TooManyLoginAttemptsException thrown by the login throttle
+	 * @param request the current web request
+	 * @return a ResponseEntity containing the ApiError and status 429
+	 */
+	@ExceptionHandler(TooManyLoginAttemptsException.class)
+	public ResponseEntity<ApiError> handleTooManyLoginAttemptsException(
+			TooManyLoginAttemptsException ex,
+			WebRequest request) {
+		log.info(ex.getClass().getName());
+		ApiError apiError = new ApiError(
+				HttpStatus.TOO_MANY_REQUESTS,
+				ex.getLocalizedMessage(),
+				"Too Many Requests"
+				);
+		return new ResponseEntity<>(apiError, retryAfter(ex.getRetryAfter()), apiError.getStatus());
+	}
+
+	/**
+	 * Handles LoginCapacityExceededException when the password verifier is saturated.
+	 *
+	 * Uses HTTP status 503 and returns an ApiError with a "Service Unavailable" detail,
+	 * and a Retry-After header in whole seconds.
+	 *
+	 * @param ex the LoginCapacityExceededException thrown by the password verifier
+	 * @param request the current web request
+	 * @return a ResponseEntity containing the ApiError and status 503
+	 */
+	@ExceptionHandler(LoginCapacityExceededException.class)
+	public ResponseEntity<ApiError> handleLoginCapacityExceededException(
+			LoginCapacityExceededException ex,
+			WebRequest request) {
+		log.warn(ex.getClass().getName());
+		ApiError apiError = new ApiError(
+				HttpStatus.SERVICE_UNAVAILABLE,
+				ex.getLocalizedMessage(),
+				"Service Unavailable"
+				);
+		return new ResponseEntity<>(apiError, retryAfter(ex.getRetryAfter()), apiError.getStatus());
+	}
+
+	/**
+	 * Handles ExportCapacityExceededException when too many exports are running.
+	 *
+	 * Uses HTTP status 503 and returns an ApiError with a "Service Unavailable" detail,
+	 * and a Retry-After header in whole seconds.
+	 *
+	 * @param ex the ExportCapacityExceededException thrown by the export limiter
+	 * @param request the current web request
+	 * @return a ResponseEntity containing the ApiError and status 503
+	 */
+	@ExceptionHandler(ExportCapacityExceededException.class)
+	public ResponseEntity<ApiError> handleExportCapacityExceededException(
+			ExportCapacityExceededException ex,
+			WebRequest request) {
+		log.warn(ex.getClass().getName());
+		ApiError apiError = new ApiError(
+				HttpStatus.SERVICE_UNAVAILABLE,
+				ex.getLocalizedMessage(),
+				"Service Unavailable"
+				);
+		return new ResponseEntity<>(apiError, retryAfter(ex.getRetryAfter()), apiError.getStatus());
+	}
+
+	/**
+	 * Builds headers with a Retry-After value, rounded up to whole seconds.
+	 *
+	 * @param wait the time the client should wait
+	 * @return the headers to send
+	 */
+	private static HttpHeaders retryAfter(Duration wait) {
+		long seconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+		return headers;
+	}
+
 	/**
 	 * Handles ConstraintViolationException for validation on path and query parameters.
 	 *
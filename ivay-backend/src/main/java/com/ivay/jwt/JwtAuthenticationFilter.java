@@ -1,36 +1,53 @@
 package com.ivay.jwt;
 
 import java.io.IOException;
+import java.time.Instant;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.ivay.cache.VerifiedTokenCache;
+import com.ivay.cache.VerifiedTokenCache.VerifiedToken;
 import com.ivay.service.impl.UserDetailsServiceImpl;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Filter that handles JWT authentication for incoming HTTP requests.
  *
  * On each request, this filter performs the following steps:
  * - Extracts the token from the Authorization header ("Bearer &lt;token&gt;")
- * - Validates the token using JwtTokenProvider
- * - Loads the user details using UserDetailsServiceImpl
+ * - Looks the token up in the VerifiedTokenCache; on a miss, validates it and
+ *   reads its claims with a single JwtTokenProvider parse, and builds the
+ *   principal from the user id, role and security version claims
+ * - Rejects the token if SecurityVersionRegistry says its user was revoked
+ *   since it was issued
  * - Creates an authentication token and stores it in the SecurityContext
  *
+ * Tokens issued before these claims existed are rejected like invalid
+ * tokens, so their users have to log in again and cannot escape revocation.
+ * An invalid, expired or incomplete token leaves the request anonymous
+ * rather than failing it, so public endpoints keep working.
+ *
  * This enables stateless JWT-based authentication for secured endpoints.
  *
  * @since 1.0.0
  */
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Autowired
@@ -39,6 +56,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
     /**
      * Extracts the JWT from the Authorization header of the request.
      *
@@ -53,12 +76,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
+    /**
+     * Verifies a token not found in the cache and builds its principal.
+     *
+     * The principal is built from the user id, role and security version
+     * claims without touching the database.
+     *
+     * @param token the JWT string
+     * @return the verified token with its principal, claims and expiration
+     * @throws MalformedJwtException if the token lacks the user id, role or security version claim
+     */
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtTokenProvider.parseToken(token);
+        Long userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class);
+        String roleName = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+        Long securityVersion = claims.get(JwtTokenProvider.CLAIM_SECURITY_VERSION, Long.class);
+        Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+
+        if (userId == null || roleName == null || securityVersion == null) {
+            throw new MalformedJwtException("Token lacks the user id, role or security version claim");
+        }
+
+        UserDetails userDetails = new User(claims.getSubject(), "", userDetailsService.mapToAuthorities(roleName));
+        return new VerifiedToken(userDetails, userId, securityVersion, expiresAt);
+    }
+
+    /**
+     * Whether the user of a verified token was revoked since it was issued.
+     *
+     * @param verified the verified token
+     * @return true if the token must no longer be accepted
+     */
+    private boolean isRevoked(VerifiedToken verified) {
+        return !securityVersionRegistry.isCurrent(verified.getUserId(), verified.getSecurityVersion());
+    }
+
     /**
      * Filters each HTTP request to perform JWT validation and set authentication.
      *
+     * An invalid token is ignored and the request continues unauthenticated.
      * If a valid token is found:
-     * - Retrieves the username (subject) from the token
-     * - Loads the corresponding UserDetails
+     * - Retrieves the UserDetails cached for the token, or verifies the token
+     *   and builds the UserDetails from its claims
+     * - Leaves the request unauthenticated if the token was revoked
      * - Builds a UsernamePasswordAuthenticationToken
      * - Sets the authentication in the SecurityContext
      *
@@ -76,9 +136,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = getTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getSubjectFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        VerifiedToken verified = null;
+        if (StringUtils.hasText(token)) {
+            try {
+                verified = verifiedTokenCache.get(token, this::verify);
+            } catch (JwtException ex) {
+                // treat as anonymous: protected routes answer 401, public ones still work
+                log.debug("Ignoring invalid bearer token: {}", ex.getMessage());
+            }
+        }
+
+        if (verified != null && !isRevoked(verified)) {
+            UserDetails userDetails = verified.getPrincipal();
 
             UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(
@@ -1,15 +1,15 @@
 package com.ivay.jwt;
 
 import java.util.Date;
-import java.util.function.Function;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -18,103 +18,85 @@ import io.jsonwebtoken.security.Keys;
  * Responsible for creating and validating JSON Web Tokens (JWTs).
  *
  * Provides methods to:
- * - generate a signed JWT for an authenticated user
- * - extract claims such as subject (username) from a token
- * - validate token signature and expiration
+ * - generate a signed JWT carrying the user's id, role and security version
+ * - validate token signature and expiration and extract its claims,
+ *   such as the subject (username), in a single parse
  *
  * @since 1.0.0
  */
 @Component
 public class JwtTokenProvider {
-    
-    @Value("${security.jwt.key.private}")
-    private String privateKey;
-    
+
+    /** Claim holding the identifier of the user. */
+    public static final String CLAIM_USER_ID = "uid";
+
+    /** Claim holding the role name of the user. */
+    public static final String CLAIM_ROLE = "role";
+
+    /** Claim holding the security version of the user at issue time. */
+    public static final String CLAIM_SECURITY_VERSION = "ver";
+
     private static final long JWT_EXPIRATION_DATE = 259200000; 		// 3 Days
 
+    private final SecretKey signingKey;
+
+    private final JwtParser parser;
+
     /**
-     * Generates a JWT for the given authentication.
+     * Decodes the configured base64 private key and builds the verifying
+     * parser once; both are immutable and shared by all requests.
+     *
+     * @param privateKey base64 encoded HMAC-SHA key for signing and verifying tokens
+     */
+    public JwtTokenProvider(@Value("${security.jwt.key.private}") String privateKey) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(privateKey));
+        this.parser = Jwts.parser()
+                          .verifyWith(signingKey)
+                          .build();
+    }
+
+    /**
+     * Generates a JWT for a user who just authenticated.
      *
      * The token contains:
      * - subject set to the username
+     * - user id, role name and security version claims, so requests can be
+     *   authenticated from the token alone
      * - issued date set to now
      * - expiration date set to now + configured interval
      * - signature using the private key and HS256 algorithm
      *
-     * @param authentication the authenticated principal
+     * @param username        the name of the user
+     * @param userId          the identifier of the user
+     * @param roleName        the name of the user's role, without the "ROLE_" prefix
+     * @param securityVersion the current security version of the user
      * @return a signed JWT as String
      */
-    public String generateToken(Authentication authentication) {
-        String username = authentication.getName();
+    public String generateToken(String username, Long userId, String roleName, long securityVersion) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + JWT_EXPIRATION_DATE);
         
         return Jwts.builder()
                    .subject(username)
+                   .claim(CLAIM_USER_ID, userId)
+                   .claim(CLAIM_ROLE, roleName)
+                   .claim(CLAIM_SECURITY_VERSION, securityVersion)
                    .issuedAt(now)
                    .expiration(expiry)
-                   .signWith(getSignInKey(), Jwts.SIG.HS256)
+                   .signWith(signingKey, Jwts.SIG.HS256)
                    .compact();
     }
-    
-    /**
-     * Decodes the configured base64 private key into a SecretKey.
-     *
-     * @return HMAC-SHA key for signing and verifying tokens
-     */
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(privateKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-    
-    /**
-     * Extracts the subject (username) from the JWT.
-     *
-     * @param token the JWT string
-     * @return the subject claim (username)
-     */
-    public String getSubjectFromToken(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-    
-    /**
-     * Validates the token for signature correctness and expiration.
-     *
-     * @param token the JWT string
-     * @return true if the token is well-formed, signed correctly, and not expired
-     */
-    public boolean validateToken(String token) {
-        Jwts.parser()
-            .verifyWith(getSignInKey())
-            .build()
-            .parseSignedClaims(token);
-        return true;
-    }
-    
-    /**
-     * Extracts a specific claim from the token using the given resolver.
-     *
-     * @param <T>           the type of the claim
-     * @param token         the JWT string
-     * @param claimResolver function that retrieves a claim from Claims
-     * @return the extracted claim
-     */
-    private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
-        Claims claims = extractAllClaims(token);
-        return claimResolver.apply(claims);
-    }
-    
+
     /**
-     * Parses all claims from the token.
+     * Parses the token, verifying its signature and expiration, and returns
+     * its claims. The token is decoded and its HMAC computed exactly once,
+     * so callers should read every claim they need from the result.
      *
      * @param token the JWT string
-     * @return the Claims object containing all token data
+     * @return the Claims object containing all token data, such as the subject (username)
+     * @throws JwtException if the token is malformed, not signed with our key, or expired
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                   .verifyWith(getSignInKey())
-                   .build()
-                   .parseSignedClaims(token)
-                   .getPayload();
+    public Claims parseToken(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,133 @@
+package com.ivay.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ivay.entity.UserSecurityVersion;
+import com.ivay.repository.UserSecurityVersionRepository;
+import com.ivay.util.TransactionCallbacks;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of the user security versions, used to revoke tokens
+ * without looking the user up on every request.
+ *
+ * Tokens carry the version of their user at issue time; a token is only
+ * accepted while that is still the user's current version. User and role
+ * writers call {@link #revokeUser(Long)} or {@link #revokeRole(Long)}, which
+ * increment the stored versions and reload the map once the transaction
+ * commits. The map is also reloaded periodically to pick up revocations made
+ * by other instances, so a revoked token may be accepted elsewhere for at
+ * most the sync delay.
+ *
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SecurityVersionRegistry {
+
+    private final UserSecurityVersionRepository userSecurityVersionRepository;
+
+    private volatile Map<Long, Long> versions = Map.of();
+
+    /**
+     * Loads the versions before the web server starts taking requests,
+     * so revoked tokens are never accepted after a restart.
+     */
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * Reloads every version from the database. Versions only grow, and
+     * reloads are serialized, so a slow reload never hides a newer one.
+     */
+    public synchronized void refresh() {
+        versions = userSecurityVersionRepository.findAll().stream()
+            .collect(Collectors.toUnmodifiableMap(UserSecurityVersion::getUserId, UserSecurityVersion::getVersion));
+    }
+
+    /**
+     * Picks up revocations committed by other instances. Failures are
+     * logged and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.version.sync-delay:PT10S}")
+    public void syncVersions() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.error("Could not reload the user security versions", ex);
+        }
+    }
+
+    /**
+     * Returns the current security version of a user.
+     *
+     * @param userId the identifier of the user
+     * @return the version, 0 if the user's security state never changed
+     */
+    public long current(Long userId) {
+        return versions.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Reads the current security version of a user from the database, for
+     * issuing tokens: the in-memory copy may lag behind other instances.
+     *
+     * @param userId the identifier of the user
+     * @return the stored version, 0 if the user's security state never changed
+     */
+    public long load(Long userId) {
+        return userSecurityVersionRepository.findById(userId)
+            .map(UserSecurityVersion::getVersion)
+            .orElse(0L);
+    }
+
+    /**
+     * Whether a token issued at the given version is still valid for the user.
+     * A version newer than the in-memory one comes from a revocation this
+     * instance has not synced yet, and is accepted.
+     *
+     * @param userId  the identifier of the user
+     * @param version the version carried by the token
+     * @return true if the user has not been revoked since
+     */
+    public boolean isCurrent(Long userId, long version) {
+        return version >= current(userId);
+    }
+
+    /**
+     * Revokes every token of a user, e.g. after its name, status or role
+     * changed or it was deleted. Takes effect when the transaction commits.
+     *
+     * @param userId the identifier of the user
+     */
+    @Transactional
+    public void revokeUser(Long userId) {
+        userSecurityVersionRepository.incrementForUser(userId);
+        TransactionCallbacks.afterCommit(this::refresh);
+        log.info("Revoked the tokens of user {}", userId);
+    }
+
+    /**
+     * Revokes the tokens of every user with a role, e.g. after the role was
+     * renamed. Takes effect when the transaction commits.
+     *
+     * @param roleId the identifier of the role
+     */
+    @Transactional
+    public void revokeRole(Long roleId) {
+        int revoked = userSecurityVersionRepository.incrementForRole(roleId);
+        TransactionCallbacks.afterCommit(this::refresh);
+        log.info("Revoked the tokens of the users with role {} ({} rows)", roleId, revoked);
+    }
+}
@@ -3,6 +3,7 @@ package com.ivay.mappers;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import com.ivay.dtos.userdto.UserAccountDto;
 import com.ivay.dtos.userdto.UserRequestDto;
 import com.ivay.dtos.userdto.UserResponseDto;
 import com.ivay.entity.UserEntity;
@@ -13,6 +14,7 @@ import com.ivay.entity.UserEntity;
  * Provides methods to:
  * - create a {@link UserEntity} from a {@link UserRequestDto}
  * - create a {@link UserResponseDto} from a {@link UserEntity}
+ * - create a {@link UserResponseDto} from a cached {@link UserAccountDto}
  *
  * @since 1.0.0
  */
@@ -47,4 +49,12 @@ public interface UserMapper {
      */
     @Mapping(source = "role.id", target = "roleId")
     UserResponseDto toUserResponse(UserEntity user);
+
+    /**
+     * Maps a cached {@link UserAccountDto} to a {@link UserResponseDto}.
+     *
+     * @param account the account snapshot from the user cache
+     * @return a UserResponseDto containing data for API responses
+     */
+    UserResponseDto toUserResponse(UserAccountDto account);
 }
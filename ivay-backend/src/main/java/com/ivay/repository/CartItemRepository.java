@@ -1,9 +1,14 @@
 package com.ivay.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.ivay.dtos.cartitemdto.CartViewItemDto;
 import com.ivay.entity.CartItem;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +24,10 @@ import java.util.Optional;
  * Adds custom finder methods for user-specific operations:
  * - findByUser_Id
  * - findByUser_IdAndProduct_Id
+ * - findWithProductByUserId
+ * - findCartViewByUsername
  * - deleteByUser_Id
+ * - deleteByUserIdAndProductIdNotIn
  *
  * @since 1.0.0
  */
@@ -34,6 +42,30 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
      */
     List<CartItem> findByUser_Id(Long userId);
 
+    /**
+     * Retrieves all cart items of a user together with their products in one query,
+     * ordered by product id.
+     *
+     * @param userId the identifier of the user
+     * @return a list of CartItem entities with their product initialized
+     */
+    @Query("SELECT ci FROM CartItem ci JOIN FETCH ci.product p "
+         + "WHERE ci.user.id = :userId ORDER BY p.id")
+    List<CartItem> findWithProductByUserId(@Param("userId") Long userId);
+
+    /**
+     * Projects the cart of a user, identified by username, into display lines
+     * with product data in a single query.
+     *
+     * @param username the name of the user
+     * @return a list of CartViewItemDto ordered by cart item id
+     */
+    @Query("SELECT new com.ivay.dtos.cartitemdto.CartViewItemDto("
+         + "ci.id, p.id, p.name, p.price, p.discount, p.imageUrl, p.stock, ci.quantity) "
+         + "FROM CartItem ci JOIN ci.product p "
+         + "WHERE ci.user.name = :username ORDER BY ci.id")
+    List<CartViewItemDto> findCartViewByUsername(@Param("username") String username);
+
     /**
      * Retrieves a cart item for a specific user and product combination.
      *
@@ -46,7 +78,26 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     /**
      * Deletes all cart items associated with a specific user.
      *
+     * Runs as a single bulk DELETE statement without loading the entities.
+     *
      * @param userId the identifier of the user whose cart items will be deleted
+     * @return number of deleted cart items
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.user.id = :userId")
+    int deleteByUser_Id(@Param("userId") Long userId);
+
+    /**
+     * Deletes the cart items of a user whose product is not in the given set.
+     *
+     * Runs as a single bulk DELETE statement without loading the entities.
+     *
+     * @param userId     the identifier of the user
+     * @param productIds identifiers of the products to keep; must not be empty
+     * @return number of deleted cart items
      */
-    void deleteByUser_Id(Long userId);
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.user.id = :userId AND ci.product.id NOT IN :productIds")
+    int deleteByUserIdAndProductIdNotIn(@Param("userId") Long userId,
+                                        @Param("productIds") Collection<Long> productIds);
 }
@@ -0,0 +1,45 @@
+package com.ivay.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.ivay.entity.CatalogChange;
+
+import java.util.List;
+
+/**
+ * Repository interface for performing CRUD operations on CatalogChange entities.
+ *
+ * Extends JpaRepository to provide standard methods such as:
+ * - save
+ * - findById
+ * - deleteById
+ *
+ * Also extends {@link CatalogVersionRepository} for version allocation.
+ *
+ * @since 1.0.0
+ */
+@Repository
+public interface CatalogChangeRepository
+        extends JpaRepository<CatalogChange, CatalogChange.Key>, CatalogVersionRepository {
+
+    /**
+     * Finds the change rows stamped after one version, up to another, oldest first.
+     *
+     * @param since the version already known to the client, exclusive
+     * @param upTo  the last version to include
+     * @param limit the maximum number of rows to return
+     * @return the matching change rows, ordered by version
+     */
+    List<CatalogChange> findByVersionGreaterThanAndVersionLessThanEqualOrderByVersionAsc(
+            Long since, Long upTo, Limit limit);
+
+    /**
+     * Finds every change row stamped with the given version.
+     *
+     * @param version the catalog version
+     * @return the change rows of that version
+     */
+    List<CatalogChange> findByVersion(Long version);
+}
@@ -0,0 +1,50 @@
+package com.ivay.repository;
+
+import java.util.Collection;
+
+/**
+ * Custom repository fragment that allocates catalog versions and stamps
+ * them on {@link com.ivay.entity.CatalogChange} rows.
+ *
+ * Mixed into {@link CatalogChangeRepository}; runs on the connection bound
+ * to the current JPA transaction.
+ *
+ * @since 1.0.0
+ */
+public interface CatalogVersionRepository {
+
+    /**
+     * Increments the catalog version and returns the new value. The counter
+     * row stays locked until the current transaction ends.
+     *
+     * @return the new catalog version
+     */
+    long nextVersion();
+
+    /**
+     * Returns the highest committed catalog version.
+     *
+     * @return the current version, 0 if nothing was ever written
+     */
+    long currentVersion();
+
+    /**
+     * Upserts the change rows of several entities of one type in a single JDBC batch.
+     *
+     * @param version    the catalog version to stamp
+     * @param entityType the type of the entities
+     * @param entityIds  the identifiers of the entities
+     * @param deleted    whether the entities were deleted
+     */
+    void stamp(long version, String entityType, Collection<Long> entityIds, boolean deleted);
+
+    /**
+     * Stamps every catalog row that has no change row yet, and writes a
+     * tombstone for every change row whose entity no longer exists. Catches
+     * up with rows written outside the application, such as the seed data.
+     *
+     * @param version the catalog version to stamp
+     * @return the number of change rows written
+     */
+    int stampUntracked(long version);
+}
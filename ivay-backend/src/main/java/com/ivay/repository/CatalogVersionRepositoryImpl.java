@@ -0,0 +1,117 @@
+package com.ivay.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ivay.entity.CatalogChange;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC implementation of {@link CatalogVersionRepository}.
+ *
+ * Runs on the connection bound to the current JPA transaction,
+ * so the stamps commit or roll back together with the caller.
+ *
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class CatalogVersionRepositoryImpl implements CatalogVersionRepository {
+
+    // LAST_INSERT_ID(expr) hands the new value back on this connection only,
+    // and the upsert creates the counter row on first use
+    private static final String INCREMENT_VERSION_SQL =
+        "INSERT INTO catalog_version (id, version) VALUES (1, LAST_INSERT_ID(1)) "
+        + "ON DUPLICATE KEY UPDATE version = LAST_INSERT_ID(version + 1)";
+
+    private static final String CURRENT_VERSION_SQL =
+        "SELECT COALESCE(MAX(version), 0) FROM catalog_version";
+
+    private static final String STAMP_SQL =
+        "INSERT INTO catalog_changes (entity_type, entity_id, version, deleted) VALUES (?, ?, ?, ?) "
+        + "ON DUPLICATE KEY UPDATE version = VALUES(version), deleted = VALUES(deleted)";
+
+    private static final String STAMP_UNTRACKED_SQL =
+        "INSERT INTO catalog_changes (entity_type, entity_id, version, deleted) "
+        + "SELECT ?, t.id, ?, FALSE FROM %s t "
+        + "WHERE NOT EXISTS (SELECT 1 FROM catalog_changes c WHERE c.entity_type = ? AND c.entity_id = t.id)";
+
+    private static final String STAMP_MISSING_SQL =
+        "UPDATE catalog_changes c LEFT JOIN %s t ON t.id = c.entity_id "
+        + "SET c.version = ?, c.deleted = TRUE "
+        + "WHERE c.entity_type = ? AND c.deleted = FALSE AND t.id IS NULL";
+
+    private static final Map<String, String> TABLES = Map.of(
+        CatalogChange.PRODUCT, "products",
+        CatalogChange.CATEGORY, "categories",
+        CatalogChange.SUPPLIER, "suppliers");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextVersion() {
+        jdbcTemplate.update(INCREMENT_VERSION_SQL);
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long currentVersion() {
+        return jdbcTemplate.queryForObject(CURRENT_VERSION_SQL, Long.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stamp(long version, String entityType, Collection<Long> entityIds, boolean deleted) {
+        List<Long> ids = new ArrayList<>(entityIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(STAMP_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, entityType);
+                ps.setLong(2, ids.get(i));
+                ps.setLong(3, version);
+                ps.setBoolean(4, deleted);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int stampUntracked(long version) {
+        int stamped = 0;
+        for (Map.Entry<String, String> table : TABLES.entrySet()) {
+            stamped += jdbcTemplate.update(
+                String.format(STAMP_UNTRACKED_SQL, table.getValue()),
+                table.getKey(), version, table.getKey());
+            stamped += jdbcTemplate.update(
+                String.format(STAMP_MISSING_SQL, table.getValue()),
+                version, table.getKey());
+        }
+        return stamped;
+    }
+}
@@ -1,8 +1,10 @@
 package com.ivay.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import com.ivay.entity.Category;
+import com.ivay.search.WeightedName;
 
 import java.util.List;
 
@@ -29,4 +31,13 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * @return list of Category entities matching the search criterion
      */
     List<Category> findByNameContainingIgnoreCase(String name);
+
+    /**
+     * Loads the name of every category with its number of products as popularity.
+     *
+     * @return one {@link WeightedName} per category
+     */
+    @Query("SELECT new com.ivay.search.WeightedName(c.id, c.name, COUNT(p)) "
+         + "FROM Category c LEFT JOIN c.products p GROUP BY c.id, c.name")
+    List<WeightedName> findAllWeightedNames();
 }
@@ -0,0 +1,48 @@
+package com.ivay.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.ivay.entity.IdempotencyKey;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for performing CRUD operations on IdempotencyKey entities.
+ *
+ * Extends JpaRepository to provide standard methods such as:
+ * - save
+ * - findById
+ * - deleteById
+ *
+ * Adds bulk deletes for purging expired keys.
+ *
+ * @since 1.0.0
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * Deletes every key whose expiration date is before the given instant.
+     *
+     * @param now the reference date and time
+     * @return number of deleted keys
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Deletes the given key if it expired before the given instant, so it
+     * can be inserted again.
+     *
+     * @param id  the scoped idempotency key
+     * @param now the reference date and time
+     * @return number of deleted keys, 0 or 1
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.id = :id AND k.expiresAt < :now")
+    int deleteExpiredById(@Param("id") String id, @Param("now") LocalDateTime now);
+}
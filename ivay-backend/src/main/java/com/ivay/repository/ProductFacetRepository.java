@@ -0,0 +1,35 @@
+package com.ivay.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ivay.dtos.productdto.FacetCountDto;
+import com.ivay.entity.Product;
+
+/**
+ * Custom repository fragment computing facet counts for product searches.
+ *
+ * Mixed into {@link ProductRepository}; each method runs a single
+ * GROUP BY query over the products matching a specification.
+ *
+ * @since 1.0.0
+ */
+public interface ProductFacetRepository {
+
+    /**
+     * Counts the matching products per category. Products without a category are not counted.
+     *
+     * @param specification the filters to apply, may be null
+     * @return one {@link FacetCountDto} per category with matches, largest first
+     */
+    List<FacetCountDto> countByCategory(Specification<Product> specification);
+
+    /**
+     * Counts the matching products per supplier. Products without a supplier are not counted.
+     *
+     * @param specification the filters to apply, may be null
+     * @return one {@link FacetCountDto} per supplier with matches, largest first
+     */
+    List<FacetCountDto> countBySupplier(Specification<Product> specification);
+}
@@ -0,0 +1,68 @@
+package com.ivay.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ivay.dtos.productdto.FacetCountDto;
+import com.ivay.entity.Product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Criteria API implementation of {@link ProductFacetRepository}.
+ *
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ProductFacetRepositoryImpl implements ProductFacetRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FacetCountDto> countByCategory(Specification<Product> specification) {
+        return countBy("category", specification);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FacetCountDto> countBySupplier(Specification<Product> specification) {
+        return countBy("supplier", specification);
+    }
+
+    /**
+     * Runs {@code SELECT a.id, a.name, COUNT(p) ... GROUP BY a.id, a.name}
+     * over the products matching the specification, for the given association.
+     */
+    private List<FacetCountDto> countBy(String association, Specification<Product> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FacetCountDto> query = cb.createQuery(FacetCountDto.class);
+        Root<Product> root = query.from(Product.class);
+        Join<Product, ?> facet = root.join(association);
+        Expression<Long> count = cb.count(root);
+
+        query.select(cb.construct(FacetCountDto.class, facet.get("id"), facet.get("name"), count));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.groupBy(facet.get("id"), facet.get("name"));
+        query.orderBy(cb.desc(count), cb.asc(facet.get("name")));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.ivay.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.entity.Product;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Sort orders and opaque cursors for keyset pagination of product listings.
+ *
+ * Every order ends with the product id so it is total, and a cursor is the
+ * base64url of "sort|direction|id|value" for the last product of a page,
+ * decoded back into the {@link ProductSpecifications#after} predicate.
+ *
+ * @since 1.0.0
+ */
+public final class ProductKeyset {
+
+    private static final String INVALID_SORT     = "Cannot sort products by '%s'; use id, price or name";
+    private static final String INVALID_CURSOR   = "Invalid pagination cursor for the requested sort";
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private static final Set<String> SORT_FIELDS = Set.of("id", "price", "name");
+
+    private ProductKeyset() {
+    }
+
+    /**
+     * Builds the order for a sort field, with the id as tiebreaker.
+     *
+     * @param sort      the sort field: "id", "price" or "name"
+     * @param direction the sort direction
+     * @return the sort order
+     * @throws IllegalArgumentException if the sort field is not supported
+     */
+    public static Sort order(String sort, Sort.Direction direction) {
+        if (!SORT_FIELDS.contains(sort)) {
+            throw new IllegalArgumentException(String.format(INVALID_SORT, sort));
+        }
+        return "id".equals(sort)
+            ? Sort.by(direction, "id")
+            : Sort.by(direction, sort).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Builds the opaque cursor pointing after the given product, without the
+     * value for id order or when the product has no value for the sort field.
+     *
+     * @param last      the last product of the page
+     * @param sort      the sort field
+     * @param direction the sort direction
+     * @return the encoded cursor
+     */
+    public static String encode(ProductResponseDto last, String sort, Sort.Direction direction) {
+        StringBuilder raw = new StringBuilder()
+            .append(sort).append(CURSOR_SEPARATOR)
+            .append(direction.name()).append(CURSOR_SEPARATOR)
+            .append(last.getId());
+        Object value = switch (sort) {
+            case "price" -> last.getPrice() != null ? last.getPrice().toPlainString() : null;
+            case "name"  -> last.getName();
+            default      -> null;
+        };
+        if (value != null) {
+            raw.append(CURSOR_SEPARATOR).append(value);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor built by {@link #encode} into the keyset
+     * specification selecting the products after it.
+     *
+     * @param cursor    the cursor sent by the client
+     * @param sort      the sort field of the current request
+     * @param direction the sort direction of the current request
+     * @return the keyset specification
+     * @throws IllegalArgumentException if the cursor is malformed or was built for another order
+     */
+    public static Specification<Product> decode(String cursor, String sort, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(Pattern.quote(CURSOR_SEPARATOR), 4);
+            if (parts.length < 3 || !sort.equals(parts[0]) || !direction.name().equals(parts[1])) {
+                throw new IllegalArgumentException(INVALID_CURSOR);
+            }
+            Long lastId = Long.valueOf(parts[2]);
+            String value = parts.length == 4 ? parts[3] : null;
+            return switch (sort) {
+                case "price" -> ProductSpecifications.after(
+                    sort, direction, value != null ? new BigDecimal(value) : null, lastId);
+                case "name"  -> ProductSpecifications.after(sort, direction, value, lastId);
+                default      -> ProductSpecifications.after(sort, direction, (Long) null, lastId);
+            };
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(INVALID_CURSOR, ex);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ivay.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.entity.Product;
+
+/**
+ * Custom repository fragment listing products straight into response DTOs.
+ *
+ * Mixed into {@link ProductRepository}; the query selects only the columns of
+ * {@link ProductResponseDto}, so no entity is loaded or managed and no
+ * association is touched.
+ *
+ * @since 1.0.0
+ */
+public interface ProductProjectionRepository {
+
+    /**
+     * Lists the products matching a specification as DTOs.
+     *
+     * @param specification the filters to apply, may be null
+     * @param sort          the order of the rows
+     * @param offset        number of rows to skip
+     * @param limit         maximum number of rows to return
+     * @return the matching products in the requested order
+     * @throws IllegalArgumentException if the offset is negative or does not fit an int
+     */
+    List<ProductResponseDto> findProductResponses(
+        Specification<Product> specification, Sort sort, long offset, int limit);
+}
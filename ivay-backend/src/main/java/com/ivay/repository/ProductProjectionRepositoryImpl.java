@@ -0,0 +1,62 @@
+package com.ivay.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.entity.Product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Criteria API implementation of {@link ProductProjectionRepository}.
+ *
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ProductProjectionRepositoryImpl implements ProductProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     *
+     * The category and supplier ids are read from the foreign key columns,
+     * without joining their tables.
+     */
+    @Override
+    public List<ProductResponseDto> findProductResponses(
+            Specification<Product> specification, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductResponseDto> query = cb.createQuery(ProductResponseDto.class);
+        Root<Product> root = query.from(Product.class);
+
+        query.select(cb.construct(ProductResponseDto.class,
+            root.get("id"), root.get("name"), root.get("description"),
+            root.get("price"), root.get("stock"), root.get("discount"), root.get("imageUrl"),
+            root.get("category").get("id"), root.get("supplier").get("id")));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        if (offset < 0 || offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Offset " + offset + " out of range");
+        }
+        return entityManager.createQuery(query)
+            .setFirstResult((int) offset)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
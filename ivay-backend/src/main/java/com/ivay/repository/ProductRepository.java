@@ -1,10 +1,21 @@
 package com.ivay.repository;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.ivay.dtos.supplierdto.SupplierStockSummaryDto;
 import com.ivay.entity.Product;
+import com.ivay.search.ProductSearchDocument;
+import com.ivay.search.WeightedName;
+
+import jakarta.persistence.QueryHint;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for performing CRUD operations on Product entities.
@@ -15,12 +26,19 @@ import java.util.List;
  * - findAll
  * - deleteById
  *
- * Adds a custom finder to search products by partial name match, ignoring case.
+ * Adds a custom finder to search products by partial name match, ignoring case,
+ * and a streaming scan for exports. Specification queries such as the keyset
+ * predicates in {@link ProductSpecifications} come from JpaSpecificationExecutor.
+ * Bulk stock decrements are inherited from {@link ProductStockRepository}
+ * search facet counts from {@link ProductFacetRepository} and DTO listings
+ * from {@link ProductProjectionRepository}.
  *
  * @since 1.0.0
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>,
+        JpaSpecificationExecutor<Product>, ProductStockRepository, ProductFacetRepository,
+        ProductProjectionRepository {
 
     /**
      * Finds all products whose name contains the given substring, case-insensitive.
@@ -29,4 +47,49 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @return list of Product entities matching the search criterion
      */
     List<Product> findByNameContainingIgnoreCase(String name);
+
+    /**
+     * Loads the searchable fields of every product, without loading the entities.
+     *
+     * @return one {@link ProductSearchDocument} per product
+     */
+    @Query("SELECT new com.ivay.search.ProductSearchDocument(p.id, p.name, p.description) FROM Product p")
+    List<ProductSearchDocument> findAllSearchDocuments();
+
+    /**
+     * Streams every product in id order over a forward-only cursor.
+     *
+     * A fetch size of Integer.MIN_VALUE makes MySQL Connector/J stream rows
+     * one by one instead of buffering the whole result set, and the read-only
+     * hint skips dirty-checking snapshots. Must be consumed, and closed, inside
+     * a transaction; callers should detach each entity once processed.
+     *
+     * @return a stream of Product entities
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Product p ORDER BY p.id")
+    Stream<Product> streamAllByOrderById();
+
+    /**
+     * Computes the product count, stock units and stock value at current
+     * price of one supplier's products in a single aggregate query.
+     *
+     * @param supplierId the id of the supplier
+     * @return the aggregates, zero when the supplier has no products
+     */
+    @Query("SELECT new com.ivay.dtos.supplierdto.SupplierStockSummaryDto(COUNT(p), SUM(p.stock), SUM(p.price * p.stock)) "
+         + "FROM Product p WHERE p.supplier.id = :supplierId")
+    SupplierStockSummaryDto summarizeStockBySupplier(@Param("supplierId") Long supplierId);
+
+    /**
+     * Loads the name of every product with the total quantity sold as popularity.
+     *
+     * @return one {@link WeightedName} per product
+     */
+    @Query("SELECT new com.ivay.search.WeightedName(p.id, p.name, COALESCE(SUM(oi.quantity), 0L)) "
+         + "FROM Product p LEFT JOIN p.orderItems oi GROUP BY p.id, p.name")
+    List<WeightedName> findAllWeightedNames();
 }
@@ -0,0 +1,153 @@
+package com.ivay.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ivay.entity.Product;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+import java.math.BigDecimal;
+
+/**
+ * Reusable JPA {@link Specification}s for querying {@link Product} entities.
+ *
+ * @since 1.0.0
+ */
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * Matches every product.
+     *
+     * @return the specification
+     */
+    public static Specification<Product> all() {
+        return (root, query, cb) -> null;
+    }
+
+    /**
+     * Matches products of the given category; matches everything if the id is null.
+     *
+     * @param categoryId the id of the category, or null
+     * @return the specification
+     */
+    public static Specification<Product> inCategory(Long categoryId) {
+        return (root, query, cb) -> categoryId == null
+            ? null
+            : cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    /**
+     * Matches products of the given supplier; matches everything if the id is null.
+     *
+     * @param supplierId the id of the supplier, or null
+     * @return the specification
+     */
+    public static Specification<Product> fromSupplier(Long supplierId) {
+        return (root, query, cb) -> supplierId == null
+            ? null
+            : cb.equal(root.get("supplier").get("id"), supplierId);
+    }
+
+    /**
+     * Matches products whose price lies within the given bounds, both inclusive.
+     * A null bound is not applied.
+     *
+     * @param minPrice the lower bound, or null
+     * @param maxPrice the upper bound, or null
+     * @return the specification
+     */
+    public static Specification<Product> priceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        return (root, query, cb) -> {
+            Path<BigDecimal> price = root.get("price");
+            if (minPrice != null && maxPrice != null) {
+                return cb.between(price, minPrice, maxPrice);
+            }
+            if (minPrice != null) {
+                return cb.greaterThanOrEqualTo(price, minPrice);
+            }
+            return maxPrice != null ? cb.lessThanOrEqualTo(price, maxPrice) : null;
+        };
+    }
+
+    /**
+     * Matches products with at least the given discount; matches everything if it is null.
+     *
+     * @param minDiscount the minimum discount fraction, or null
+     * @return the specification
+     */
+    public static Specification<Product> discountAtLeast(BigDecimal minDiscount) {
+        return (root, query, cb) -> minDiscount == null
+            ? null
+            : cb.greaterThanOrEqualTo(root.get("discount"), minDiscount);
+    }
+
+    /**
+     * Matches products with stock left when {@code onlyInStock} is set, everything otherwise.
+     *
+     * @param onlyInStock whether to exclude sold-out products
+     * @return the specification
+     */
+    public static Specification<Product> inStock(boolean onlyInStock) {
+        return (root, query, cb) -> onlyInStock
+            ? cb.greaterThan(root.get("stock"), 0)
+            : null;
+    }
+
+    /**
+     * Matches the products that come strictly after a keyset position when
+     * ordering by {@code attribute} and then by id, both in {@code direction}.
+     *
+     * The predicate is written as {@code attr >= v AND (attr > v OR id > lastId)}
+     * (mirrored for descending order) so MySQL can turn it into a single range
+     * scan on an {@code (attribute, id)} index. NULL values follow MySQL's
+     * native ordering: first when ascending, last when descending.
+     *
+     * @param attribute the sort attribute, e.g. "price" or "name"; "id" for id-only order
+     * @param direction the sort direction
+     * @param value     the attribute value of the last row already returned, may be null
+     * @param lastId    the id of the last row already returned
+     * @param <T>       type of the attribute
+     * @return the keyset specification
+     */
+    public static <T extends Comparable<? super T>> Specification<Product> after(
+            String attribute, Sort.Direction direction, T value, Long lastId) {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            boolean ascending = direction.isAscending();
+            Predicate idAfter = ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+            if ("id".equals(attribute)) {
+                return idAfter;
+            }
+
+            Path<T> attr = root.get(attribute);
+            if (value == null) {
+                Predicate sameNull = cb.and(cb.isNull(attr), idAfter);
+                return ascending ? cb.or(sameNull, cb.isNotNull(attr)) : sameNull;
+            }
+            Predicate seek = ascending
+                ? seekAscending(cb, attr, value, idAfter)
+                : seekDescending(cb, attr, value, idAfter);
+            return ascending ? seek : cb.or(seek, cb.isNull(attr));
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Predicate seekAscending(
+            CriteriaBuilder cb, Path<T> attr, T value, Predicate idAfter) {
+        return cb.and(
+            cb.greaterThanOrEqualTo(attr, value),
+            cb.or(cb.greaterThan(attr, value), idAfter));
+    }
+
+    private static <T extends Comparable<? super T>> Predicate seekDescending(
+            CriteriaBuilder cb, Path<T> attr, T value, Predicate idAfter) {
+        return cb.and(
+            cb.lessThanOrEqualTo(attr, value),
+            cb.or(cb.lessThan(attr, value), idAfter));
+    }
+}
@@ -0,0 +1,27 @@
+package com.ivay.repository;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Custom repository fragment for bulk stock maintenance on products.
+ *
+ * Mixed into {@link ProductRepository} so callers keep a single
+ * repository dependency while stock changes bypass entity loading.
+ *
+ * @since 1.0.0
+ */
+public interface ProductStockRepository {
+
+    /**
+     * Subtracts the given quantities from several products in a single JDBC batch.
+     *
+     * Each row is only updated if it holds enough stock, so the check and the
+     * subtraction are atomic per product. Rows are updated in ascending id order,
+     * which keeps lock acquisition consistent across concurrent orders.
+     *
+     * @param quantitiesByProductId units to subtract, keyed and ordered by product id
+     * @return identifiers of the products whose stock was insufficient; empty on success
+     */
+    List<Long> decrementStock(SortedMap<Long, Integer> quantitiesByProductId);
+}
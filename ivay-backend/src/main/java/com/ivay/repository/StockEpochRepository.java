@@ -0,0 +1,41 @@
+package com.ivay.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.ivay.entity.StockEpochCounter;
+
+/**
+ * Repository interface for the single-row StockEpochCounter.
+ *
+ * Adds an upsert that increments the epoch, creating the row on first use,
+ * and a read of the committed epoch.
+ *
+ * @since 1.0.0
+ */
+@Repository
+public interface StockEpochRepository extends JpaRepository<StockEpochCounter, Integer> {
+
+    /**
+     * Increments the stock epoch. The row stays locked until the current
+     * transaction ends.
+     *
+     * @return number of rows inserted or updated
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stock_epoch (id, epoch) VALUES (1, 1) "
+                 + "ON DUPLICATE KEY UPDATE epoch = epoch + 1",
+           nativeQuery = true)
+    int increment();
+
+    /**
+     * Returns the current stock epoch, including an increment made by the
+     * current transaction.
+     *
+     * @return the epoch, 0 if stock was never changed
+     */
+    @Query(value = "SELECT COALESCE(MAX(epoch), 0) FROM stock_epoch", nativeQuery = true)
+    long currentEpoch();
+}
@@ -2,8 +2,10 @@ package com.ivay.repository;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import com.ivay.entity.Supplier;
+import com.ivay.search.WeightedName;
 
 /**
  * Repository interface for performing CRUD operations on Supplier entities.
@@ -28,4 +30,13 @@ public interface SupplierRepository extends JpaRepository<Supplier, Long> {
      * @return list of Supplier entities matching the search criterion
      */
     List<Supplier> findByNameContainingIgnoreCase(String name);
+
+    /**
+     * Loads the name of every supplier with its number of products as popularity.
+     *
+     * @return one {@link WeightedName} per supplier
+     */
+    @Query("SELECT new com.ivay.search.WeightedName(s.id, s.name, COUNT(p)) "
+         + "FROM Supplier s LEFT JOIN s.products p GROUP BY s.id, s.name")
+    List<WeightedName> findAllWeightedNames();
 }
@@ -1,6 +1,8 @@
 package com.ivay.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.ivay.entity.UserEntity;
 
@@ -54,4 +56,22 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      * @return an Optional containing the matching UserEntity if found
      */
     Optional<UserEntity> findUserEntityByName(String name);
+
+    /**
+     * Finds a user by exact username together with its role in one query.
+     *
+     * @param name the username to search for
+     * @return an Optional containing the matching UserEntity with its role initialized
+     */
+    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.role WHERE u.name = :name")
+    Optional<UserEntity> findWithRoleByName(@Param("name") String name);
+
+    /**
+     * Finds a user by id together with its role in one query.
+     *
+     * @param id the identifier of the user
+     * @return an Optional containing the matching UserEntity with its role initialized
+     */
+    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.role WHERE u.id = :id")
+    Optional<UserEntity> findWithRoleById(@Param("id") Long id);
 }
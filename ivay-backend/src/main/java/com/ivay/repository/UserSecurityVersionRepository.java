@@ -0,0 +1,50 @@
+package com.ivay.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ivay.entity.UserSecurityVersion;
+
+/**
+ * Repository interface for performing CRUD operations on UserSecurityVersion entities.
+ *
+ * Extends JpaRepository to provide standard methods such as:
+ * - findAll
+ * - findById
+ *
+ * Adds upserts that increment the version of one user or of every user
+ * with a given role, creating the rows on first use.
+ *
+ * @since 1.0.0
+ */
+@Repository
+public interface UserSecurityVersionRepository extends JpaRepository<UserSecurityVersion, Long> {
+
+    /**
+     * Increments the security version of a user.
+     *
+     * @param userId the identifier of the user
+     * @return number of rows inserted or updated
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_security_versions (user_id, version) VALUES (:userId, 1) "
+                 + "ON DUPLICATE KEY UPDATE version = version + 1",
+           nativeQuery = true)
+    int incrementForUser(@Param("userId") Long userId);
+
+    /**
+     * Increments the security version of every user with the given role.
+     *
+     * @param roleId the identifier of the role
+     * @return number of rows inserted or updated
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_security_versions (user_id, version) "
+                 + "SELECT u.id, 1 FROM users u WHERE u.role_id = :roleId "
+                 + "ON DUPLICATE KEY UPDATE version = user_security_versions.version + 1",
+           nativeQuery = true)
+    int incrementForRole(@Param("roleId") Long roleId);
+}
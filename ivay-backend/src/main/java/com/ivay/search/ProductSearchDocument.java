@@ -0,0 +1,34 @@
+package com.ivay.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Searchable fields of a product, as loaded to build the search index.
+ *
+ * Populated directly by a JPQL constructor expression so that building
+ * the index does not load whole Product entities.
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchDocument {
+
+    /**
+     * Identifier of the product.
+     */
+    private Long id;
+
+    /**
+     * Name of the product.
+     */
+    private String name;
+
+    /**
+     * Description of the product.
+     */
+    private String description;
+}
@@ -0,0 +1,376 @@
+package com.ivay.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ivay.repository.ProductRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over product names and descriptions.
+ *
+ * Terms are accent-folded and lower-cased by {@link SearchText} and kept in a
+ * sorted dictionary, so every query token also matches the terms it is a
+ * prefix of ("port" finds "portátil"). A product matches when all query tokens
+ * match; results are ranked by a TF-IDF style score in which name hits weigh
+ * more than description hits and exact terms more than prefix expansions.
+ *
+ * In fuzzy mode each query token is also matched against misspelled variants:
+ * a trigram index over the term dictionary yields the terms sharing the most
+ * trigrams with the token, at most {@link #MAX_FUZZY_CANDIDATES} of them, and
+ * those within a small edit distance are scored with a penalty per edit.
+ * Indexing the vocabulary rather than the products keeps the candidate step
+ * independent of catalog size.
+ *
+ * The index is built once the application is ready and kept current by the
+ * product service after each committed write. Writes it was not told about,
+ * made by other instances, are picked up by a scheduled rebuild once
+ * {@link #markStale()} is called; the index is also rebuilt periodically to
+ * catch rows written straight to the database. Until the first build
+ * finishes {@link #isReady()} is false and callers should fall back to the
+ * database.
+ *
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final float  NAME_WEIGHT        = 3.0f;
+    private static final float  DESCRIPTION_WEIGHT = 1.0f;
+    private static final double PREFIX_FACTOR      = 0.5;
+    private static final double FUZZY_FACTOR       = 0.4;
+
+    private static final int MAX_FUZZY_CANDIDATES = 64;
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(15);
+
+    private final ProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment segment = new Segment();
+
+    /** updates received while a rebuild was reading the database, replayed on swap */
+    private List<Runnable> pendingUpdates;
+
+    private volatile boolean ready;
+
+    private final AtomicBoolean stale = new AtomicBoolean(false);
+
+    private volatile Instant builtAt = Instant.EPOCH;
+
+    /**
+     * Builds the index from the database once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Requests a rebuild after products changed without this instance being
+     * told which ones, e.g. when another instance advanced the catalog version.
+     */
+    public void markStale() {
+        stale.set(true);
+    }
+
+    /**
+     * Rebuilds the index if it was marked stale or is older than {@link #MAX_AGE}.
+     * Failures are logged and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${search.index.refresh-delay:PT5S}")
+    public void refreshIfStale() {
+        boolean expired = builtAt.plus(MAX_AGE).isBefore(Instant.now());
+        if (!stale.getAndSet(false) && !expired) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            stale.set(true);
+            log.error("Could not rebuild product search index", ex);
+        }
+    }
+
+    /**
+     * Rebuilds the whole index from the database and swaps it in atomically.
+     * Writes applied while the rebuild runs are replayed on the new index.
+     * Rebuilds are serialized.
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        Segment newSegment = new Segment();
+        List<ProductSearchDocument> documents;
+        try {
+            documents = productRepository.findAllSearchDocuments();
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+        for (ProductSearchDocument document : documents) {
+            newSegment.add(document.getId(), document.getName(), document.getDescription());
+        }
+
+        lock.writeLock().lock();
+        try {
+            segment = newSegment;
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+            ready = true;
+            builtAt = Instant.now();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} products ({} terms) for search in {} ms",
+            newSegment.termsByProduct.size(), newSegment.postings.size(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Indexes a product, replacing any previous version of it.
+     *
+     * @param productId   the id of the product
+     * @param name        the name of the product
+     * @param description the description of the product, may be null
+     */
+    public void index(Long productId, String name, String description) {
+        applyUpdate(() -> {
+            segment.remove(productId);
+            segment.add(productId, name, description);
+        });
+    }
+
+    /**
+     * Removes a product from the index.
+     *
+     * @param productId the id of the product
+     */
+    public void remove(Long productId) {
+        applyUpdate(() -> segment.remove(productId));
+    }
+
+    /**
+     * Whether the initial build has completed.
+     *
+     * @return true once searches reflect the whole catalog
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Finds the products matching every token of the query, best first.
+     *
+     * @param query free text typed by the user
+     * @param fuzzy whether tokens may also match terms a few edits away
+     * @return ids of the matching products ordered by descending relevance,
+     *         then ascending id; empty if the query has no tokens
+     */
+    public List<Long> search(String query, boolean fuzzy) {
+        LinkedHashSet<String> tokens = new LinkedHashSet<>(SearchText.tokenize(query));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = null;
+        lock.readLock().lock();
+        try {
+            for (String token : tokens) {
+                Map<Long, Double> tokenScores = scoreToken(token);
+                if (fuzzy) {
+                    scoreFuzzy(token, tokenScores);
+                }
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /**
+     * Scores every product containing a term equal to or starting with the token.
+     * Each product keeps the score of its best matching term only.
+     *
+     * @param token a normalized query token
+     * @return product id -> score for this token
+     */
+    private Map<Long, Double> scoreToken(String token) {
+        Map<Long, Double> tokenScores = new HashMap<>();
+        NavigableMap<String, Map<Long, Float>> matches =
+            segment.postings.subMap(token, true, token + Character.MAX_VALUE, false);
+        for (Map.Entry<String, Map<Long, Float>> term : matches.entrySet()) {
+            double factor = term.getKey().length() == token.length() ? 1.0 : PREFIX_FACTOR;
+            scoreTerm(term.getValue(), factor, tokenScores);
+        }
+        return tokenScores;
+    }
+
+    /**
+     * Adds to {@code tokenScores} the products containing a term within the
+     * allowed edit distance of the token, scored {@link #FUZZY_FACTOR} per edit.
+     *
+     * Candidates are the terms sharing the most trigrams with the token; only
+     * the best {@link #MAX_FUZZY_CANDIDATES} are checked with the edit distance,
+     * which bounds the cost of a query whatever the size of the vocabulary.
+     *
+     * @param token       a normalized query token
+     * @param tokenScores product id -> score, updated in place
+     */
+    private void scoreFuzzy(String token, Map<Long, Double> tokenScores) {
+        int maxEdits = token.length() < 3 ? 0 : token.length() < 6 ? 1 : 2;
+        if (maxEdits == 0) {
+            return;
+        }
+
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : SearchText.trigrams(token)) {
+            for (String term : segment.termsByTrigram.getOrDefault(trigram, Set.of())) {
+                if (Math.abs(term.length() - token.length()) <= maxEdits) {
+                    shared.merge(term, 1, Integer::sum);
+                }
+            }
+        }
+
+        shared.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+            .limit(MAX_FUZZY_CANDIDATES)
+            .map(Map.Entry::getKey)
+            .filter(term -> !term.equals(token))
+            .forEach(term -> {
+                int edits = SearchText.editDistance(token, term, maxEdits);
+                if (edits <= maxEdits) {
+                    scoreTerm(segment.postings.get(term), Math.pow(FUZZY_FACTOR, edits), tokenScores);
+                }
+            });
+    }
+
+    /**
+     * Merges the scores of one term's postings into {@code tokenScores},
+     * keeping the best score per product.
+     */
+    private void scoreTerm(Map<Long, Float> postingList, double factor, Map<Long, Double> tokenScores) {
+        double idf = Math.log(1.0 + (double) segment.termsByProduct.size() / postingList.size());
+        for (Map.Entry<Long, Float> posting : postingList.entrySet()) {
+            double score = Math.log1p(posting.getValue()) * idf * factor;
+            tokenScores.merge(posting.getKey(), score, Math::max);
+        }
+    }
+
+    /**
+     * Applies an update under the write lock, and remembers it for replay
+     * if a rebuild is currently reading the database.
+     *
+     * @param update the change to the live index
+     */
+    private void applyUpdate(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The mutable index structures, swapped as a whole on rebuild.
+     */
+    private static final class Segment {
+
+        /** term -> (product id -> weight of the term in that product) */
+        final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+
+        /** product id -> its terms, to unindex a product without scanning the dictionary */
+        final Map<Long, List<String>> termsByProduct = new HashMap<>();
+
+        /** trigram -> terms of the dictionary containing it, for fuzzy candidates */
+        final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+
+        void add(Long productId, String name, String description) {
+            Map<String, Float> weights = new HashMap<>();
+            for (String token : SearchText.tokenize(name)) {
+                weights.merge(token, NAME_WEIGHT, Float::sum);
+            }
+            for (String token : SearchText.tokenize(description)) {
+                weights.merge(token, DESCRIPTION_WEIGHT, Float::sum);
+            }
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> {
+                SearchText.trigrams(t).forEach(trigram ->
+                    termsByTrigram.computeIfAbsent(trigram, g -> new HashSet<>()).add(t));
+                return new HashMap<>();
+            }).put(productId, weight));
+            termsByProduct.put(productId, List.copyOf(weights.keySet()));
+        }
+
+        void remove(Long productId) {
+            List<String> terms = termsByProduct.remove(productId);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, Float> postingList = postings.get(term);
+                postingList.remove(productId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                    SearchText.trigrams(term).forEach(trigram -> {
+                        Set<String> trigramTerms = termsByTrigram.get(trigram);
+                        trigramTerms.remove(term);
+                        if (trigramTerms.isEmpty()) {
+                            termsByTrigram.remove(trigram);
+                        }
+                    });
+                }
+            }
+        }
+    }
+}
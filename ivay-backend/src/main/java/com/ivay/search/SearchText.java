@@ -0,0 +1,118 @@
+package com.ivay.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Text normalization shared by the in-memory search structures.
+ *
+ * Text is lower-cased and accent-folded ("Portátil" becomes "portatil",
+ * "Cañón" becomes "canon") so that Spanish queries match regardless of how
+ * users type diacritics, then split on anything that is not a letter or digit.
+ * Also provides the trigram and edit distance helpers used by fuzzy search.
+ *
+ * @since 1.0.0
+ */
+public final class SearchText {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private SearchText() {
+    }
+
+    /**
+     * Lower-cases and accent-folds the given text.
+     *
+     * @param text the text to normalize, may be null
+     * @return the normalized text, empty if {@code text} is null
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes the given text and splits it into tokens.
+     *
+     * @param text the text to tokenize, may be null
+     * @return the tokens in order of appearance, possibly with duplicates
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the distinct trigrams of a normalized term, padded with '$' at
+     * both ends so that the first and last letters weigh as much as the rest
+     * ("tv" gives "$tv" and "tv$").
+     *
+     * @param term a normalized term
+     * @return its trigrams in order of appearance
+     */
+    public static Set<String> trigrams(String term) {
+        String padded = "$" + term + "$";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Computes the optimal string alignment distance (Levenshtein plus
+     * adjacent transpositions) between two strings, giving up early once
+     * it is certain to exceed {@code max}.
+     *
+     * @param a   first string
+     * @param b   second string
+     * @param max largest distance of interest
+     * @return the distance, or {@code max + 1} if it is larger than {@code max}
+     */
+    public static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+}
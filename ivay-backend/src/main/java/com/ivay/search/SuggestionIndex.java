@@ -0,0 +1,266 @@
+package com.ivay.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ivay.dtos.searchdto.SuggestionDto;
+import com.ivay.repository.CategoryRepository;
+import com.ivay.repository.ProductRepository;
+import com.ivay.repository.SupplierRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory typeahead index over product, category and supplier names.
+ *
+ * Names are accent-folded by {@link SearchText} and inserted once per word
+ * start, so "auri" and "blue" both suggest "Auriculares Bluetooth". The keys
+ * live in an immutable radix trie (chains of single-child nodes collapsed into
+ * one edge) where every node stores its top suggestions by popularity, so a
+ * lookup only walks the characters of the prefix and never visits a subtree.
+ *
+ * Writers only mark the index stale; a scheduled task rebuilds it off the
+ * request path and swaps the new trie in with a single volatile write. It is
+ * also rebuilt periodically so popularity follows sales.
+ *
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SuggestionIndex {
+
+    /** Number of suggestions precomputed per node, and the maximum per request. */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Duration MAX_AGE = Duration.ofHours(1);
+
+    private static final double PRODUCT_BOOST  = 1.0;
+    private static final double CATEGORY_BOOST = 1.5;
+    private static final double SUPPLIER_BOOST = 1.0;
+
+    private static final Node EMPTY = new Node(new char[0], new String[0], new Node[0], new Entry[0]);
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final SupplierRepository supplierRepository;
+
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    private volatile Node root = EMPTY;
+    private volatile Instant builtAt = Instant.EPOCH;
+
+    /**
+     * Builds the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshIfStale();
+    }
+
+    /**
+     * Requests a rebuild after a product, category or supplier name changed.
+     * Cheap enough to call from request threads; the rebuild happens later.
+     */
+    public void markStale() {
+        stale.set(true);
+    }
+
+    /**
+     * Rebuilds the trie if it was marked stale or is older than {@link #MAX_AGE}.
+     * Failures are logged and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${search.suggest.refresh-delay:PT5S}")
+    public synchronized void refreshIfStale() {
+        boolean expired = builtAt.plus(MAX_AGE).isBefore(Instant.now());
+        if (!stale.getAndSet(false) && !expired) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            stale.set(true);
+            log.error("Could not rebuild suggestion index", ex);
+        }
+    }
+
+    /**
+     * Returns the best suggestions for the text typed so far.
+     *
+     * @param query the prefix typed by the user
+     * @param limit maximum number of suggestions, at most {@link #MAX_SUGGESTIONS}
+     * @return suggestions by descending popularity; empty if nothing matches
+     */
+    public List<SuggestionDto> suggest(String query, int limit) {
+        String prefix = String.join(" ", SearchText.tokenize(query));
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            int index = Arrays.binarySearch(node.firstChars, prefix.charAt(position));
+            if (index < 0) {
+                return List.of();
+            }
+            String label = node.labels[index];
+            int length = Math.min(label.length(), prefix.length() - position);
+            if (!prefix.regionMatches(position, label, 0, length)) {
+                return List.of();
+            }
+            position += length;
+            node = node.children[index];
+        }
+
+        return Arrays.stream(node.top)
+            .limit(Math.min(limit, MAX_SUGGESTIONS))
+            .map(entry -> entry.suggestion)
+            .toList();
+    }
+
+    /**
+     * Loads every name from the database, builds a new trie and swaps it in.
+     */
+    private void rebuild() {
+        long start = System.nanoTime();
+        MutableNode builder = new MutableNode();
+        int names = 0;
+
+        for (WeightedName product : productRepository.findAllWeightedNames()) {
+            names += insert(builder, product, "PRODUCT", PRODUCT_BOOST);
+        }
+        for (WeightedName category : categoryRepository.findAllWeightedNames()) {
+            names += insert(builder, category, "CATEGORY", CATEGORY_BOOST);
+        }
+        for (WeightedName supplier : supplierRepository.findAllWeightedNames()) {
+            names += insert(builder, supplier, "SUPPLIER", SUPPLIER_BOOST);
+        }
+
+        root = freeze(builder);
+        builtAt = Instant.now();
+        log.info("Built suggestion index for {} names in {} ms", names, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Inserts a name under every word start of its normalized form.
+     *
+     * @return 1 if the name was inserted, 0 if it has no searchable characters
+     */
+    private static int insert(MutableNode root, WeightedName name, String type, double boost) {
+        List<String> tokens = SearchText.tokenize(name.getName());
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+        long popularity = name.getPopularity() != null ? name.getPopularity() : 0L;
+        Entry entry = new Entry(
+            new SuggestionDto(name.getName(), type, name.getId()),
+            boost + Math.log1p(popularity));
+
+        String key = String.join(" ", tokens);
+        int start = 0;
+        for (String token : tokens) {
+            MutableNode node = root;
+            for (int i = start; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new MutableNode());
+            }
+            node.entries.add(entry);
+            start += token.length() + 1;
+        }
+        return 1;
+    }
+
+    /**
+     * Converts the mutable trie into the compact read-only form, collapsing
+     * single-child chains into edge labels and computing each node's top list.
+     */
+    private static Node freeze(MutableNode node) {
+        int size = node.children.size();
+        char[] firstChars = new char[size];
+        String[] labels = new String[size];
+        Node[] children = new Node[size];
+        List<Entry> candidates = new ArrayList<>(node.entries);
+
+        int i = 0;
+        for (Map.Entry<Character, MutableNode> edge : node.children.entrySet()) {
+            StringBuilder label = new StringBuilder().append(edge.getKey().charValue());
+            MutableNode child = edge.getValue();
+            while (child.entries.isEmpty() && child.children.size() == 1) {
+                Map.Entry<Character, MutableNode> only = child.children.firstEntry();
+                label.append(only.getKey().charValue());
+                child = only.getValue();
+            }
+            firstChars[i] = edge.getKey();
+            labels[i] = label.toString();
+            children[i] = freeze(child);
+            candidates.addAll(Arrays.asList(children[i].top));
+            i++;
+        }
+
+        Entry[] top = candidates.stream()
+            .distinct()
+            .sorted(Entry.RANKING)
+            .limit(MAX_SUGGESTIONS)
+            .toArray(Entry[]::new);
+        return new Node(firstChars, labels, children, top);
+    }
+
+    /**
+     * A suggestion with its ranking weight. Compared by identity, so a name
+     * reachable through several word starts is suggested once.
+     */
+    private static final class Entry {
+
+        static final Comparator<Entry> RANKING = Comparator
+            .comparingDouble((Entry entry) -> entry.weight).reversed()
+            .thenComparingInt(entry -> entry.suggestion.getText().length())
+            .thenComparing(entry -> entry.suggestion.getText());
+
+        final SuggestionDto suggestion;
+        final double weight;
+
+        Entry(SuggestionDto suggestion, double weight) {
+            this.suggestion = suggestion;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Read-only radix trie node. Edges are sorted by first character.
+     */
+    private static final class Node {
+
+        final char[] firstChars;
+        final String[] labels;
+        final Node[] children;
+        final Entry[] top;
+
+        Node(char[] firstChars, String[] labels, Node[] children, Entry[] top) {
+            this.firstChars = firstChars;
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+        }
+    }
+
+    /**
+     * One-character-per-edge trie node used only while building.
+     */
+    private static final class MutableNode {
+
+        final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        final List<Entry> entries = new ArrayList<>(1);
+    }
+}
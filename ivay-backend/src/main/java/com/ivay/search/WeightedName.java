@@ -0,0 +1,34 @@
+package com.ivay.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Name of a catalog entity together with a popularity figure,
+ * as loaded to build the suggestion index.
+ *
+ * Populated directly by JPQL constructor expressions.
+ *
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeightedName {
+
+    /**
+     * Identifier of the entity.
+     */
+    private Long id;
+
+    /**
+     * Display name of the entity.
+     */
+    private String name;
+
+    /**
+     * Popularity of the entity, e.g. units sold or number of products.
+     */
+    private Long popularity;
+}
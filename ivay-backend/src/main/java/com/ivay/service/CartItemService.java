@@ -4,6 +4,8 @@ import java.util.List;
 
 import com.ivay.dtos.cartitemdto.CartItemRequestDto;
 import com.ivay.dtos.cartitemdto.CartItemResponseDto;
+import com.ivay.dtos.cartitemdto.CartViewResponseDto;
+import com.ivay.dtos.cartitemdto.ReplaceCartRequestDto;
 import com.ivay.dtos.cartitemdto.UpdateCartItemQuantityDto;
 
 /**
@@ -12,10 +14,12 @@ import com.ivay.dtos.cartitemdto.UpdateCartItemQuantityDto;
  * Provides methods to:
  * - retrieve a cart item by its identifier
  * - retrieve all cart items for a specific user
+ * - retrieve a user's cart with product data and totals
  * - add a new item or update an existing one
  * - update the quantity of an existing cart item
  * - delete individual cart items
  * - clear all items from a user's cart
+ * - replace a user's whole cart in one call
  *
  * Implementations should enforce business rules such as
  * validating user ownership and stock availability.
@@ -40,6 +44,14 @@ public interface CartItemService {
      */
     List<CartItemResponseDto> getCartItemsByUserId(Long userId);
 
+    /**
+     * Retrieves the cart of a user with embedded product data and totals.
+     *
+     * @param username the name of the user whose cart to fetch
+     * @return the {@link CartViewResponseDto} for that user
+     */
+    CartViewResponseDto getCartView(String username);
+
     /**
      * Adds a new item to the cart or updates an existing one if it already exists.
      *
@@ -70,4 +82,13 @@ public interface CartItemService {
      * @param userId the identifier of the user whose cart is to be cleared
      */
     void clearUserCart(Long userId);
+
+    /**
+     * Replaces the whole cart of a user with the given lines.
+     *
+     * @param username the name of the user whose cart is replaced
+     * @param replaceCartRequestDto the desired final cart contents
+     * @return the resulting list of {@link CartItemResponseDto}
+     */
+    List<CartItemResponseDto> replaceCart(String username, ReplaceCartRequestDto replaceCartRequestDto);
 }
@@ -0,0 +1,57 @@
+package com.ivay.service;
+
+import com.ivay.dtos.catalogdto.CatalogChangesDto;
+
+import java.util.Collection;
+
+/**
+ * Service interface for tracking catalog writes and serving them as a change feed.
+ *
+ * Every committed write to a product, category or supplier is stamped with a
+ * new, monotonically increasing catalog version, so clients can keep a local
+ * replica and fetch only what changed since the version they hold.
+ *
+ * Stock decrements made by checkouts are not catalog changes: the stock
+ * carried by the feed is as of the last catalog write and only
+ * informational. Availability is enforced when an order is placed. They
+ * only advance the shared stock epoch, see {@link #recordStockChange()}.
+ *
+ * @since 1.0.0
+ */
+public interface CatalogService {
+
+    /**
+     * Records that entities were created or updated in the current transaction.
+     *
+     * @param entityType one of the {@link com.ivay.entity.CatalogChange} type constants
+     * @param entityIds  identifiers of the written entities
+     */
+    void recordUpserts(String entityType, Collection<Long> entityIds);
+
+    /**
+     * Records that an entity was deleted in the current transaction.
+     *
+     * @param entityType one of the {@link com.ivay.entity.CatalogChange} type constants
+     * @param entityId   identifier of the deleted entity
+     */
+    void recordDeletion(String entityType, Long entityId);
+
+    /**
+     * Records that the current transaction changed stock outside of a catalog
+     * write, such as an order decrementing it. The stock epoch is incremented
+     * once, just before the transaction commits.
+     */
+    void recordStockChange();
+
+    /**
+     * Retrieves the entities created, updated or deleted after a catalog version,
+     * oldest versions first. The response stops at a version boundary once about
+     * {@code limit} entities are included, and tells whether more changes follow.
+     *
+     * @param since the version the client already holds, 0 for everything
+     * @param limit the maximum number of entities to return; a single version
+     *              touching more entities is still returned whole
+     * @return a {@link CatalogChangesDto} with the upserts, tombstones and new version
+     */
+    CatalogChangesDto getChanges(long since, int limit);
+}
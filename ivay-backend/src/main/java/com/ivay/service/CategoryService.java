@@ -4,7 +4,7 @@ import java.util.List;
 
 import com.ivay.dtos.categorydto.CategoryRequestDto;
 import com.ivay.dtos.categorydto.CategoryResponseDto;
-import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.dtos.productdto.PaginatedProductResponseDto;
 
 /**
  * Service interface for managing product categories.
@@ -66,10 +66,18 @@ public interface CategoryService {
     void deleteCategory(Long categoryId);
 
     /**
-     * Retrieves all products associated with a specific category.
+     * Retrieves one page of the products associated with a specific category,
+     * by page index or by the cursor returned with the previous page.
      *
-     * @param categoryId the identifier of the category
-     * @return a list of {@link ProductResponseDto} for products in that category
+     * @param categoryId   the identifier of the category
+     * @param page         zero-based page index, ignored when {@code after} is given
+     * @param size         number of products per page
+     * @param sort         sort field: "id", "price" or "name"
+     * @param direction    sort direction: "asc" or "desc"
+     * @param after        opaque cursor from a previous response, or null
+     * @param includeTotal whether to compute totalElements and totalPages
+     * @return a {@link PaginatedProductResponseDto} with the products of that category
      */
-    List<ProductResponseDto> getProductsByCategoryId(Long categoryId);
+    PaginatedProductResponseDto getProductsByCategoryId(
+        Long categoryId, int page, int size, String sort, String direction, String after, boolean includeTotal);
 }
@@ -0,0 +1,30 @@
+package com.ivay.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Service interface for deduplicating retried requests.
+ *
+ * Provides a method to run an operation at most once per client supplied
+ * {@code Idempotency-Key}, replaying the stored result on repeats.
+ *
+ * @since 1.0.0
+ */
+public interface IdempotencyService {
+
+    /**
+     * Runs the given action once for the key and returns its result.
+     *
+     * Repeated or concurrent calls with the same key and request return
+     * the result of the first execution without running the action again.
+     *
+     * @param <T>          the type of the result
+     * @param key          the idempotency key, already scoped to the caller
+     * @param request      the request body, fingerprinted to detect a key reused
+     *                     with a different request
+     * @param resultType   class used to deserialize a stored result
+     * @param action       the operation to run on the first call
+     * @return the result of the first execution for this key
+     */
+    <T> T execute(String key, Object request, Class<T> resultType, Supplier<T> action);
+}
@@ -3,6 +3,7 @@ package com.ivay.service;
 import java.util.List;
 
 import com.ivay.dtos.orderdto.OrderResponseDto;
+import com.ivay.dtos.orderdto.checkout.CheckoutRequestDto;
 import com.ivay.dtos.orderdto.create.CreateOrderRequestDto;
 import com.ivay.dtos.orderdto.update.UpdateOrderDto;
 import com.ivay.dtos.orderitemdto.OrderItemResponseDto;
@@ -13,6 +14,7 @@ import com.ivay.dtos.orderitemdto.OrderItemResponseDto;
  * Provides methods to:
  * - retrieve all orders or by user
  * - retrieve, create, update, and delete a single order
+ * - convert a user's cart into an order
  * - fetch items belonging to a specific order
  *
  * @since 1.0.0
@@ -50,6 +52,15 @@ public interface OrderService {
      */
     OrderResponseDto createOrder(CreateOrderRequestDto createOrderRequestDto);
 
+    /**
+     * Creates an order from the contents of a user's cart and empties the cart.
+     *
+     * @param username the name of the user checking out
+     * @param checkoutRequestDto the DTO containing payment method and discount
+     * @return the created {@link OrderResponseDto}
+     */
+    OrderResponseDto checkout(String username, CheckoutRequestDto checkoutRequestDto);
+
     /**
      * Updates the specified fields of an existing order.
      *
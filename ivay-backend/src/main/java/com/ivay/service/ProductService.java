@@ -1,12 +1,17 @@
 package com.ivay.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 import com.ivay.dtos.cartitemdto.CartItemResponseDto;
 import com.ivay.dtos.orderitemdto.OrderItemResponseDto;
+import com.ivay.dtos.productdto.ProductBatchResponseDto;
 import com.ivay.dtos.productdto.PaginatedProductResponseDto;
 import com.ivay.dtos.productdto.ProductRequestDto;
 import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.dtos.productdto.ProductSearchCriteriaDto;
+import com.ivay.dtos.productdto.ProductSearchResponseDto;
 
 /**
  * Service interface for managing products.
@@ -14,6 +19,8 @@ import com.ivay.dtos.productdto.ProductResponseDto;
  * Provides methods to:
  * - retrieve all products or a paginated subset
  * - search products by name
+ * - filter products by category, supplier, price, discount and stock, with facet counts
+ * - retrieve several products by id in one call
  * - perform CRUD operations on products
  * - retrieve associated order items and cart items for a product
  *
@@ -29,21 +36,48 @@ public interface ProductService {
     List<ProductResponseDto> getAllProducts();
 
     /**
-     * Retrieves a page of products with pagination metadata.
+     * Writes every product to the given stream, reading and writing one
+     * product at a time so memory use does not depend on catalog size.
      *
-     * @param page zero-based page index
-     * @param size number of items per page
+     * @param format       "ndjson" for one JSON object per line, or "csv"
+     * @param outputStream the stream to write to; not closed by this method
+     * @throws IOException              if writing to the stream fails
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    void exportProducts(String format, OutputStream outputStream) throws IOException;
+
+    /**
+     * Retrieves a page of products with pagination metadata, either by page
+     * index or, when {@code after} is given, by keyset cursor.
+     *
+     * @param page         zero-based page index, ignored when {@code after} is given
+     * @param size         number of items per page, at most 100
+     * @param sort         sort field: "id", "price" or "name"
+     * @param direction    sort direction: "asc" or "desc"
+     * @param after        cursor returned as {@code nextCursor} by the previous page, or null
+     * @param includeTotal whether to count the total number of products
      * @return a {@link PaginatedProductResponseDto} containing the page of products and metadata
      */
-    PaginatedProductResponseDto getProductsPaginated(int page, int size);
+    PaginatedProductResponseDto getProductsPaginated(
+        int page, int size, String sort, String direction, String after, boolean includeTotal);
+
+    /**
+     * Retrieves one page of the products matching the given filters,
+     * together with per-category and per-supplier facet counts.
+     *
+     * @param criteria the filters, sort order and page to fetch
+     * @return a {@link ProductSearchResponseDto} with the page of products, metadata and facets
+     */
+    ProductSearchResponseDto searchProducts(ProductSearchCriteriaDto criteria);
 
     /**
      * Finds products whose name contains the given substring, case-insensitive.
      *
-     * @param name substring to search for within product names
+     * @param name  substring to search for within product names
+     * @param fuzzy whether to also match misspelled words
      * @return a list of matching {@link ProductResponseDto}
      */
-    List<ProductResponseDto> findProductsByName(String name);
+    List<ProductResponseDto> findProductsByName(String name, boolean fuzzy);
 
     /**
      * Retrieves a single product by its identifier.
@@ -53,6 +87,14 @@ public interface ProductService {
      */
     ProductResponseDto getProductById(Long productId);
 
+    /**
+     * Retrieves several products by their identifiers in one call.
+     *
+     * @param productIds the identifiers of the products, in the desired order
+     * @return a {@link ProductBatchResponseDto} with the found products and missing ids
+     */
+    ProductBatchResponseDto getProductsByIds(List<Long> productIds);
+
     /**
      * Creates a new product.
      *
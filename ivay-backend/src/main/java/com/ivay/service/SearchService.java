@@ -0,0 +1,25 @@
+package com.ivay.service;
+
+import java.util.List;
+
+import com.ivay.dtos.searchdto.SuggestionDto;
+
+/**
+ * Service interface for catalog-wide search features.
+ *
+ * Provides methods to:
+ * - suggest product, category and supplier names for a typed prefix
+ *
+ * @since 1.0.0
+ */
+public interface SearchService {
+
+    /**
+     * Suggests catalog names starting with, or having a word starting with, the given text.
+     *
+     * @param query the text typed so far
+     * @param limit maximum number of suggestions to return
+     * @return a list of {@link SuggestionDto}, most popular first
+     */
+    List<SuggestionDto> suggest(String query, int limit);
+}
@@ -1,6 +1,7 @@
 package com.ivay.service;
 
 import java.util.List;
+import com.ivay.dtos.supplierdto.SupplierProductsResponseDto;
 import com.ivay.dtos.supplierdto.SupplierRequestDto;
 import com.ivay.dtos.supplierdto.SupplierResponseDto;
 
@@ -13,6 +14,7 @@ import com.ivay.dtos.supplierdto.SupplierResponseDto;
  * - create a new supplier
  * - update an existing supplier
  * - delete a supplier
+ * - list the products of a supplier
  *
  * @since 1.0.0
  */
@@ -56,4 +58,20 @@ public interface SupplierService {
      * @param id the identifier of the supplier to delete
      */
     void deleteSupplier(Long id);
+
+    /**
+     * Retrieves one page of the products provided by a supplier, together
+     * with stock aggregates over all of them.
+     *
+     * @param supplierId   the identifier of the supplier
+     * @param page         zero-based page index, ignored when {@code after} is given
+     * @param size         number of products per page
+     * @param sort         sort field: "id", "price" or "name"
+     * @param direction    sort direction: "asc" or "desc"
+     * @param after        opaque cursor from a previous response, or null
+     * @param includeTotal whether to compute totalElements and totalPages
+     * @return the {@link SupplierProductsResponseDto} with the page and the aggregates
+     */
+    SupplierProductsResponseDto getProductsBySupplierId(
+        Long supplierId, int page, int size, String sort, String direction, String after, boolean includeTotal);
 }
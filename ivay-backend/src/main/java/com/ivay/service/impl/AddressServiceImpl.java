@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 
 import com.ivay.dtos.addressdto.AddressRequestDto;
 import com.ivay.dtos.addressdto.AddressResponseDto;
+import com.ivay.dtos.userdto.UserAccountDto;
 import com.ivay.entity.Address;
 import com.ivay.entity.UserEntity;
 import com.ivay.exception.ResourceNotFoundException;
@@ -41,16 +42,21 @@ public class AddressServiceImpl implements AddressService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserAccountLookup userAccountLookup;
+
     /**
-     * Checks if the given username is the owner of the address.
+     * Checks if the given username is the owner of the address. The user is
+     * resolved through the user cache and compared by id.
      *
      * @param addressId the identifier of the address
      * @param username  the username to check ownership for
      * @return true if the user owns the address, false otherwise
      */
     public boolean isOwner(Long addressId, String username) {
-        return addressRepository.findById(addressId)
-            .map(address -> address.getUser().getName().equals(username))
+        return userAccountLookup.findByName(username)
+            .flatMap(account -> addressRepository.findById(addressId)
+                .map(address -> account.getId().equals(address.getUser().getId())))
             .orElse(false);
     }
 
@@ -124,12 +130,10 @@ public class AddressServiceImpl implements AddressService {
      */
     @Override
     public AddressResponseDto createAddress(AddressRequestDto addressRequestDto, String username) {
-        UserEntity current = userRepository.findUserEntityByName(username)
+        UserAccountDto current = userAccountLookup.findByName(username)
             .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
 
-        boolean isAdmin = current.getRole().getRoleName().equals("ADMIN")
-            || current.getRole().getRoleName().equals("SUPERADMIN");
-        if (!isAdmin && !current.getId().equals(addressRequestDto.getUserId())) {
+        if (!current.isAdmin() && !current.getId().equals(addressRequestDto.getUserId())) {
             throw new AccessDeniedException("No tienes permiso para crear direcciones de otro usuario");
         }
 
@@ -156,12 +160,10 @@ public class AddressServiceImpl implements AddressService {
      */
     @Override
     public AddressResponseDto updateAddress(Long id, AddressRequestDto addressRequestDto, String username) {
-        UserEntity currentUser = userRepository.findUserEntityByName(username)
+        UserAccountDto currentUser = userAccountLookup.findByName(username)
             .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
 
-        boolean isAdmin = currentUser.getRole().getRoleName().equals("ADMIN")
-            || currentUser.getRole().getRoleName().equals("SUPERADMIN");
-        if (!isAdmin && !currentUser.getId().equals(addressRequestDto.getUserId())) {
+        if (!currentUser.isAdmin() && !currentUser.getId().equals(addressRequestDto.getUserId())) {
             throw new AccessDeniedException("No tienes permiso para modificar direcciones de otro usuario");
         }
 
@@ -7,10 +7,15 @@ import org.springframework.stereotype.Service;
 
 import com.ivay.dtos.cartitemdto.CartItemRequestDto;
 import com.ivay.dtos.cartitemdto.CartItemResponseDto;
+import com.ivay.dtos.cartitemdto.CartViewItemDto;
+import com.ivay.dtos.cartitemdto.CartViewResponseDto;
+import com.ivay.dtos.cartitemdto.CartLineRequestDto;
+import com.ivay.dtos.cartitemdto.ReplaceCartRequestDto;
 import com.ivay.dtos.cartitemdto.UpdateCartItemQuantityDto;
 import com.ivay.entity.CartItem;
 import com.ivay.entity.Product;
 import com.ivay.entity.UserEntity;
+import com.ivay.exception.InsufficientStockException;
 import com.ivay.exception.ResourceNotFoundException;
 import com.ivay.mappers.CartItemMapper;
 import com.ivay.repository.CartItemRepository;
@@ -18,15 +23,24 @@ import com.ivay.repository.ProductRepository;
 import com.ivay.repository.UserRepository;
 import com.ivay.service.CartItemService;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing shopping cart items.
  *
  * Performs create, read, update and delete operations on cart items,
  * with validation of user and product existence, stock checks,
- * and supports quantity updates or clearing a user's cart.
+ * and supports quantity updates, clearing a user's cart or replacing
+ * it as a whole.
  *
  * All operations are executed within a transactional context.
  *
@@ -41,11 +55,14 @@ public class CartItemServiceImpl implements CartItemService {
     private final CartItemRepository cartItemRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final UserAccountLookup userAccountLookup;
     private final CartItemMapper cartItemMapper;
 
     private static final String CART_ITEM_NOT_FOUND    = "CartItem with id %d not found";
     private static final String USER_NOT_FOUND         = "User with id %d not found (for cart operation)";
     private static final String PRODUCT_NOT_FOUND      = "Product with id %d not found (for cart operation)";
+    private static final String PRODUCTS_NOT_FOUND     = "Products with ids %s not found (for cart operation)";
+    private static final String USERNAME_NOT_FOUND     = "User %s not found (for cart operation)";
 
     /**
      * Retrieves a CartItem by its id, throwing if not found.
@@ -87,7 +104,8 @@ public class CartItemServiceImpl implements CartItemService {
     }
 
     /**
-     * Checks ownership of a cart item by username.
+     * Checks ownership of a cart item by username. The user is resolved
+     * through the user cache and compared by id, so its row is not read.
      *
      * @param cartItemId id of the cart item
      * @param username   name of the user
@@ -95,7 +113,9 @@ public class CartItemServiceImpl implements CartItemService {
      */
     public boolean isOwner(Long cartItemId, String username) {
         CartItem cartItem = validateAndGetCartItem(cartItemId);
-        return cartItem.getUser().getName().equals(username);
+        return userAccountLookup.findByName(username)
+                .map(account -> account.getId().equals(cartItem.getUser().getId()))
+                .orElse(false);
     }
 
     /**
@@ -128,6 +148,46 @@ public class CartItemServiceImpl implements CartItemService {
                 .toList();
     }
 
+    /**
+     * Retrieves the cart of a user with product data, line totals and cart totals.
+     *
+     * Lines come from a single projection query joining cart items and products;
+     * line totals follow the same rounding as order items. An unknown username
+     * simply yields an empty cart.
+     *
+     * @param username name of the user
+     * @return the CartViewResponseDto for that user
+     */
+    @Override
+    public CartViewResponseDto getCartView(String username) {
+        log.info("Fetching cart view for user: {}", username);
+        List<CartViewItemDto> items = cartItemRepository.findCartViewByUsername(username);
+
+        int totalQuantity = 0;
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal total = BigDecimal.ZERO;
+        for (CartViewItemDto item : items) {
+            BigDecimal discount = item.getDiscount() != null ? item.getDiscount() : BigDecimal.ZERO;
+            BigDecimal gross = item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+            BigDecimal lineTotal = gross
+                    .multiply(BigDecimal.ONE.subtract(discount))
+                    .setScale(2, RoundingMode.HALF_UP);
+            item.setLineTotal(lineTotal);
+
+            totalQuantity += item.getQuantity();
+            subtotal = subtotal.add(gross);
+            total = total.add(lineTotal);
+        }
+
+        CartViewResponseDto view = new CartViewResponseDto();
+        view.setItems(items);
+        view.setTotalQuantity(totalQuantity);
+        view.setSubtotal(subtotal.setScale(2, RoundingMode.HALF_UP));
+        view.setTotal(total);
+        view.setDiscountTotal(view.getSubtotal().subtract(total));
+        return view;
+    }
+
     /**
      * Adds a new cart item or updates quantity if already present.
      *
@@ -232,4 +292,89 @@ public class CartItemServiceImpl implements CartItemService {
         cartItemRepository.deleteByUser_Id(userId);
         log.info("Cleared cart for user id: {}", userId);
     }
+
+    /**
+     * Replaces the whole cart of a user with the given lines.
+     *
+     * Lines for the same product are merged. All products are loaded with one
+     * query and stock-checked up front. Items no longer wanted are removed with
+     * one bulk DELETE; changed quantities and new items are written at flush
+     * time as batched UPDATE and INSERT statements.
+     *
+     * @param username              name of the user whose cart is replaced
+     * @param replaceCartRequestDto desired final cart contents
+     * @return the resulting cart as a list of CartItemResponseDto
+     * @throws ResourceNotFoundException  if the user or any product is not found
+     * @throws InsufficientStockException if any quantity exceeds stock
+     */
+    @Override
+    public List<CartItemResponseDto> replaceCart(String username,
+                                                 ReplaceCartRequestDto replaceCartRequestDto) {
+        log.info("Replacing cart for user: {}", username);
+        UserEntity user = userRepository.findUserEntityByName(username)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format(USERNAME_NOT_FOUND, username)));
+
+        SortedMap<Long, Integer> requested = new TreeMap<>();
+        for (CartLineRequestDto line : replaceCartRequestDto.getItems()) {
+            requested.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+        }
+
+        if (requested.isEmpty()) {
+            int removed = cartItemRepository.deleteByUser_Id(user.getId());
+            log.info("Cleared {} cart items for user id: {}", removed, user.getId());
+            return List.of();
+        }
+
+        Map<Long, Product> products = productRepository.findAllById(requested.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Long> missing = requested.keySet().stream()
+                .filter(id -> !products.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException(String.format(PRODUCTS_NOT_FOUND, missing));
+        }
+
+        List<String> overStock = requested.entrySet().stream()
+                .filter(e -> {
+                    Integer stock = products.get(e.getKey()).getStock();
+                    return stock != null && e.getValue() > stock;
+                })
+                .map(e -> products.get(e.getKey()).getName())
+                .toList();
+        if (!overStock.isEmpty()) {
+            log.warn("Insufficient stock replacing cart for user {}: {}", user.getId(), overStock);
+            throw new InsufficientStockException("Insufficient stock for products: " + String.join(", ", overStock));
+        }
+
+        int removed = cartItemRepository.deleteByUserIdAndProductIdNotIn(user.getId(), requested.keySet());
+
+        Map<Long, CartItem> existing = cartItemRepository.findByUser_Id(user.getId()).stream()
+                .collect(Collectors.toMap(ci -> ci.getProduct().getId(), Function.identity()));
+
+        List<CartItem> result = new ArrayList<>();
+        List<CartItem> inserted = new ArrayList<>();
+        int updated = 0;
+        for (Map.Entry<Long, Integer> entry : requested.entrySet()) {
+            CartItem cartItem = existing.get(entry.getKey());
+            if (cartItem == null) {
+                cartItem = new CartItem();
+                cartItem.setUser(user);
+                cartItem.setProduct(products.get(entry.getKey()));
+                cartItem.setQuantity(entry.getValue());
+                inserted.add(cartItem);
+            } else if (!entry.getValue().equals(cartItem.getQuantity())) {
+                cartItem.setQuantity(entry.getValue());
+                updated++;
+            }
+            result.add(cartItem);
+        }
+        cartItemRepository.saveAll(inserted);
+
+        log.info("Replaced cart for user id {}: {} removed, {} updated, {} inserted",
+                 user.getId(), removed, updated, inserted.size());
+        return result.stream()
+                .map(cartItemMapper::toCartItemResponse)
+                .toList();
+    }
 }
@@ -0,0 +1,328 @@
+package com.ivay.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ivay.cache.CatalogVersion;
+import com.ivay.cache.ProductCatalogCache;
+import com.ivay.cache.StockEpoch;
+import com.ivay.dtos.catalogdto.CatalogChangesDto;
+import com.ivay.dtos.categorydto.CategoryResponseDto;
+import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.dtos.supplierdto.SupplierResponseDto;
+import com.ivay.entity.CatalogChange;
+import com.ivay.mappers.CategoryMapper;
+import com.ivay.mappers.ProductMapper;
+import com.ivay.mappers.SupplierMapper;
+import com.ivay.repository.CatalogChangeRepository;
+import com.ivay.repository.CategoryRepository;
+import com.ivay.repository.ProductRepository;
+import com.ivay.repository.StockEpochRepository;
+import com.ivay.repository.SupplierRepository;
+import com.ivay.search.ProductSearchIndex;
+import com.ivay.search.SuggestionIndex;
+import com.ivay.service.CatalogService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Implementation of {@link CatalogService}.
+ *
+ * Writes recorded during a transaction are collected and stamped just before
+ * it commits: the persistence context is flushed first, then a new version is
+ * taken from the counter row and written to the change rows of every touched
+ * entity. The counter row lock is therefore held only for the final upserts
+ * and the commit, and it orders catalog transactions so a version is never
+ * visible before a smaller one.
+ *
+ * Stock changes made outside of catalog writes increment the separate stock
+ * epoch row the same way, just before commit, so checkouts never wait on
+ * the catalog version counter.
+ *
+ * @since 1.0.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CatalogServiceImpl implements CatalogService {
+
+    private static final String INVALID_SINCE = "The since version must not be negative";
+    private static final String INVALID_LIMIT = "Limit must be between 1 and %d";
+
+    /** Largest number of entities a change feed response may request. */
+    public static final int MAX_CHANGES = 1000;
+
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final SupplierRepository supplierRepository;
+    private final ProductMapper productMapper;
+    private final CategoryMapper categoryMapper;
+    private final SupplierMapper supplierMapper;
+    private final CatalogVersion catalogVersion;
+    private final StockEpochRepository stockEpochRepository;
+    private final StockEpoch stockEpoch;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Stamps rows written outside the application, such as the seed data,
+     * and loads the current version once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            long version = catalogChangeRepository.nextVersion();
+            int stamped = catalogChangeRepository.stampUntracked(version);
+            if (stamped == 0) {
+                status.setRollbackOnly();
+            } else {
+                log.info("Stamped {} untracked catalog rows with version {}", stamped, version);
+            }
+        });
+        catalogVersion.advanceTo(catalogChangeRepository.currentVersion());
+        stockEpoch.advanceTo(stockEpochRepository.currentEpoch());
+    }
+
+    /**
+     * Picks up catalog versions and stock epochs committed by other
+     * instances. When the version moved without a local write, the product
+     * cache is dropped and the search and suggestion indexes are marked for
+     * rebuilding, since this instance was not told which entries changed;
+     * when only the stock epoch moved, dropping the product cache is enough.
+     * Failures are logged and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${catalog.version.sync-delay:PT5S}")
+    public void syncVersion() {
+        try {
+            long committed = catalogChangeRepository.currentVersion();
+            long committedEpoch = stockEpochRepository.currentEpoch();
+            boolean catalogChanged = catalogVersion.advanceTo(committed);
+            boolean stockChanged = stockEpoch.advanceTo(committedEpoch);
+            if (catalogChanged) {
+                log.info("Catalog version advanced to {} by another writer", committed);
+                productSearchIndex.markStale();
+                suggestionIndex.markStale();
+            }
+            if (catalogChanged || stockChanged) {
+                productCatalogCache.invalidateAll();
+            }
+        } catch (RuntimeException ex) {
+            log.error("Could not read the catalog version", ex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordUpserts(String entityType, Collection<Long> entityIds) {
+        record(entityType, entityIds, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Without a transaction the epoch is incremented in a new one right away.
+     */
+    @Override
+    public void recordStockChange() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> recordStockChange());
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(stockEpoch)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(stockEpoch, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            long epoch;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // flush first, so the epoch row lock is only held for the commit itself
+                entityManager.flush();
+                stockEpochRepository.increment();
+                epoch = stockEpochRepository.currentEpoch();
+            }
+
+            @Override
+            public void afterCommit() {
+                stockEpoch.advanceTo(epoch);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(stockEpoch);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordDeletion(String entityType, Long entityId) {
+        record(entityType, List.of(entityId), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Runs in one read-only transaction, so the version, the change rows and
+     * the entities all come from the same snapshot. An entity is reported at
+     * most once, as an upsert or as a tombstone. Versions are never split
+     * across responses, so the returned version is always complete.
+     *
+     * @throws IllegalArgumentException if {@code since} is negative or
+     *         {@code limit} is outside 1..{@link #MAX_CHANGES}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogChangesDto getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException(INVALID_SINCE);
+        }
+        if (limit < 1 || limit > MAX_CHANGES) {
+            throw new IllegalArgumentException(String.format(INVALID_LIMIT, MAX_CHANGES));
+        }
+
+        long current = catalogChangeRepository.currentVersion();
+        long version = current;
+        List<CatalogChange> changes = catalogChangeRepository
+            .findByVersionGreaterThanAndVersionLessThanEqualOrderByVersionAsc(since, current, Limit.of(limit + 1));
+        if (changes.size() > limit) {
+            // drop the version the limit cut through, or return it whole if it is the only one
+            long cut = changes.get(limit).getVersion();
+            changes = changes.stream()
+                .filter(change -> change.getVersion() < cut)
+                .toList();
+            if (changes.isEmpty()) {
+                changes = catalogChangeRepository.findByVersion(cut);
+            }
+            version = changes.get(changes.size() - 1).getVersion();
+        }
+
+        Map<String, Set<Long>> upserted = new HashMap<>();
+        Map<String, Set<Long>> deleted = new HashMap<>();
+        for (CatalogChange change : changes) {
+            (change.isDeleted() ? deleted : upserted)
+                .computeIfAbsent(change.getEntityType(), type -> new TreeSet<>())
+                .add(change.getEntityId());
+        }
+        log.info("Fetching catalog changes from version {} to {} (latest {})", since, version, current);
+
+        CatalogChangesDto dto = new CatalogChangesDto();
+        dto.setVersion(version);
+        dto.setHasMore(version < current);
+        dto.setProducts(productRepository.findAllById(upserted.getOrDefault(CatalogChange.PRODUCT, Set.of())).stream()
+            .map(productMapper::toProductResponse)
+            .sorted(Comparator.comparing(ProductResponseDto::getId))
+            .toList());
+        dto.setCategories(categoryRepository.findAllById(upserted.getOrDefault(CatalogChange.CATEGORY, Set.of())).stream()
+            .map(categoryMapper::toCategoryResponse)
+            .sorted(Comparator.comparing(CategoryResponseDto::getId))
+            .toList());
+        dto.setSuppliers(supplierRepository.findAllById(upserted.getOrDefault(CatalogChange.SUPPLIER, Set.of())).stream()
+            .map(supplierMapper::toSupplierResponse)
+            .sorted(Comparator.comparing(SupplierResponseDto::getId))
+            .toList());
+        dto.setDeletedProductIds(List.copyOf(deleted.getOrDefault(CatalogChange.PRODUCT, Set.of())));
+        dto.setDeletedCategoryIds(List.copyOf(deleted.getOrDefault(CatalogChange.CATEGORY, Set.of())));
+        dto.setDeletedSupplierIds(List.copyOf(deleted.getOrDefault(CatalogChange.SUPPLIER, Set.of())));
+        return dto;
+    }
+
+    /**
+     * Adds the entities to the changes pending in the current transaction,
+     * registering the stamping callback on first use. Without a transaction
+     * the changes are stamped in a new one right away.
+     */
+    private void record(String entityType, Collection<Long> entityIds, boolean deleted) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> record(entityType, entityIds, deleted));
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        for (Long entityId : entityIds) {
+            CatalogChange.Key key = new CatalogChange.Key(entityType, entityId);
+            if (deleted) {
+                pending.upserted.remove(key);
+                pending.deleted.add(key);
+            } else if (!pending.deleted.contains(key)) {
+                pending.upserted.add(key);
+            }
+        }
+    }
+
+    /**
+     * Catalog writes of one transaction, stamped before it commits.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        final Set<CatalogChange.Key> upserted = new HashSet<>();
+        final Set<CatalogChange.Key> deleted = new HashSet<>();
+        long version;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // flush entity writes before taking the counter lock, so it is never
+            // held while waiting for row locks owned by another catalog writer
+            entityManager.flush();
+            version = catalogChangeRepository.nextVersion();
+            stamp(upserted, false);
+            stamp(deleted, true);
+        }
+
+        @Override
+        public void afterCommit() {
+            catalogVersion.advanceTo(version);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CatalogServiceImpl.this);
+        }
+
+        private void stamp(Set<CatalogChange.Key> keys, boolean deleted) {
+            // sorted, so concurrent writers lock the change rows in the same order
+            Map<String, Set<Long>> idsByType = new TreeMap<>();
+            keys.forEach(key -> idsByType.computeIfAbsent(key.getEntityType(), type -> new TreeSet<>())
+                .add(key.getEntityId()));
+            idsByType.forEach((type, ids) -> catalogChangeRepository.stamp(version, type, ids, deleted));
+        }
+    }
+}
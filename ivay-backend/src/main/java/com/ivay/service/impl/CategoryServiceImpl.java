@@ -5,15 +5,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import com.ivay.cache.SearchResultCache;
 import com.ivay.dtos.categorydto.CategoryRequestDto;
 import com.ivay.dtos.categorydto.CategoryResponseDto;
-import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.dtos.productdto.PaginatedProductResponseDto;
+import com.ivay.entity.CatalogChange;
 import com.ivay.entity.Category;
 import com.ivay.exception.ResourceNotFoundException;
 import com.ivay.mappers.CategoryMapper;
-import com.ivay.mappers.ProductMapper;
 import com.ivay.repository.CategoryRepository;
+import com.ivay.repository.ProductRepository;
+import com.ivay.repository.ProductSpecifications;
+import com.ivay.search.SuggestionIndex;
+import com.ivay.service.CatalogService;
 import com.ivay.service.CategoryService;
+import com.ivay.util.TransactionCallbacks;
 
 import java.util.List;
 
@@ -35,7 +41,11 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
-    private final ProductMapper productMapper;
+    private final ProductRepository productRepository;
+    private final ProductListingQuery productListingQuery;
+    private final SearchResultCache searchResultCache;
+    private final CatalogService catalogService;
+    private final SuggestionIndex suggestionIndex;
 
     private static final String CATEGORY_NOT_FOUND = "Category with id %d not found";
 
@@ -68,15 +78,20 @@ public class CategoryServiceImpl implements CategoryService {
     /**
      * Finds categories whose name contains the given substring, case-insensitive.
      *
+     * Results are cached by normalized query until the next catalog write.
+     *
      * @param name substring to search for in category names
      * @return a list of matching {@link CategoryResponseDto}
      */
     @Override
     public List<CategoryResponseDto> findCategoriesByName(String name) {
-        log.info("Finding categories with name containing: {}", name);
-        return categoryRepository.findByNameContainingIgnoreCase(name).stream()
-            .map(categoryMapper::toCategoryResponse)
-            .toList();
+        String trimmed = name.trim();
+        return searchResultCache.getCategories(trimmed, () -> {
+            log.info("Finding categories with name containing: {}", trimmed);
+            return categoryRepository.findByNameContainingIgnoreCase(trimmed).stream()
+                .map(categoryMapper::toCategoryResponse)
+                .toList();
+        });
     }
 
     /**
@@ -105,6 +120,8 @@ public class CategoryServiceImpl implements CategoryService {
         Category category = categoryMapper.toCategory(categoryRequestDto);
         Category saved = categoryRepository.save(category);
         log.info("Created category with id: {}", saved.getId());
+        catalogService.recordUpserts(CatalogChange.CATEGORY, List.of(saved.getId()));
+        TransactionCallbacks.afterCommit(suggestionIndex::markStale);
         return categoryMapper.toCategoryResponse(saved);
     }
 
@@ -126,6 +143,8 @@ public class CategoryServiceImpl implements CategoryService {
         category.setName(categoryRequestDto.getName());
         Category updated = categoryRepository.save(category);
         log.info("Updated category with id: {}", updated.getId());
+        catalogService.recordUpserts(CatalogChange.CATEGORY, List.of(updated.getId()));
+        TransactionCallbacks.afterCommit(suggestionIndex::markStale);
         return categoryMapper.toCategoryResponse(updated);
     }
 
@@ -141,7 +160,7 @@ public class CategoryServiceImpl implements CategoryService {
         log.info("Attempting to delete category with id: {}", categoryId);
         Category category = validateAndGetCategory(categoryId);
 
-        if (category.getProducts() != null && !category.getProducts().isEmpty()) {
+        if (productRepository.exists(ProductSpecifications.inCategory(categoryId))) {
             log.warn("Cannot delete category {}: associated products exist", categoryId);
             throw new IllegalStateException(
                 "Cannot delete category with associated products. "
@@ -150,21 +169,38 @@ public class CategoryServiceImpl implements CategoryService {
 
         categoryRepository.delete(category);
         log.info("Deleted category with id: {}", categoryId);
+        catalogService.recordDeletion(CatalogChange.CATEGORY, categoryId);
+        TransactionCallbacks.afterCommit(suggestionIndex::markStale);
     }
 
     /**
-     * Retrieves all products belonging to a specific category.
+     * Retrieves one page of the products belonging to a specific category.
      *
-     * @param categoryId the id of the category
-     * @return a list of {@link ProductResponseDto} for the category's products
-     * @throws ResourceNotFoundException if no category exists with the given id
+     * The category is only checked for existence; its product collection is
+     * never loaded. The page is read by {@link ProductListingQuery} over the
+     * (category, sort field, id) indexes.
+     *
+     * @param categoryId   the id of the category
+     * @param page         zero-based page index, ignored when {@code after} is given
+     * @param size         number of products per page
+     * @param sort         sort field: "id", "price" or "name"
+     * @param direction    sort direction: "asc" or "desc"
+     * @param after        opaque cursor from a previous response, or null
+     * @param includeTotal whether to compute totalElements and totalPages
+     * @return {@link PaginatedProductResponseDto} containing content and metadata
+     * @throws ResourceNotFoundException if no category exists with the given id,
+     *                                   or the page index is out of range
+     * @throws IllegalArgumentException  if the page, sort field, direction or cursor is invalid
      */
     @Override
-    public List<ProductResponseDto> getProductsByCategoryId(Long categoryId) {
-        log.info("Fetching products for category id: {}", categoryId);
-        Category category = validateAndGetCategory(categoryId);
-        return category.getProducts().stream()
-            .map(productMapper::toProductResponse)
-            .toList();
+    public PaginatedProductResponseDto getProductsByCategoryId(
+            Long categoryId, int page, int size, String sort, String direction, String after, boolean includeTotal) {
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new ResourceNotFoundException(String.format(CATEGORY_NOT_FOUND, categoryId));
+        }
+        log.info("Fetching products for category id: {} (page {}, size {}, sort {} {})",
+            categoryId, after == null ? page : "after cursor", size, sort, direction);
+        return productListingQuery.read(ProductSpecifications.inCategory(categoryId),
+            page, size, sort, direction, after, includeTotal);
     }
 }
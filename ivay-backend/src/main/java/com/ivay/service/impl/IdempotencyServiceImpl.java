@@ -0,0 +1,252 @@
+package com.ivay.service.impl;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ivay.cache.CacheStatsSource;
+import com.ivay.dtos.cachedto.CacheStatsDto;
+import com.ivay.entity.IdempotencyKey;
+import com.ivay.repository.IdempotencyKeyRepository;
+import com.ivay.service.IdempotencyService;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Service implementation for {@link IdempotencyService}.
+ *
+ * Results are persisted in the "idempotency_keys" table for a fixed TTL,
+ * with a bounded Caffeine cache expiring on the same TTL in front of it so
+ * hot retries never reach the database. Concurrent calls with the same key on this instance wait for
+ * the first one instead of running the action again; across instances the
+ * key is stored with a plain INSERT, so the primary key rejects the second
+ * writer, whose transaction (including the action itself) is rolled back
+ * and which then replays the winner's response.
+ *
+ * Requests are fingerprinted with the SHA-256 of their canonical JSON
+ * (properties and map entries sorted), so reusing a key with any other
+ * body is detected.
+ *
+ * @since 1.0.0
+ */
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService, CacheStatsSource {
+
+    private static final Duration KEY_TTL = Duration.ofHours(24);
+    private static final int FRONT_CACHE_SIZE = 10_000;
+    private static final int MAX_KEY_LENGTH = 150;
+
+    private static final String KEY_TOO_LONG = "Idempotency-Key must be at most %d characters";
+    private static final String KEY_REUSED   = "Idempotency-Key was already used with a different request";
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter canonicalWriter;
+
+    private final Cache<String, IdempotencyKey> frontCache = Caffeine.newBuilder()
+        .maximumSize(FRONT_CACHE_SIZE)
+        .expireAfterWrite(KEY_TTL)
+        .recordStats()
+        .build();
+
+    private final ConcurrentMap<String, CompletableFuture<IdempotencyKey>> inFlight =
+        new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionManager = transactionManager;
+        this.objectMapper = objectMapper;
+        // a separate mapper: the one Spring builds is a plain ObjectMapper, which cannot be rebuilt
+        this.canonicalWriter = JsonMapper.builder()
+            .findAndAddModules()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build()
+            .writer();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Checks the in-memory cache first, then collapses concurrent callers
+     * onto a single execution that consults the table and, on a miss, runs
+     * the action and stores its result in the same transaction.
+     *
+     * @throws IllegalArgumentException if the key is too long or was first used
+     *         with a different request body
+     */
+    @Override
+    public <T> T execute(String key, Object request, Class<T> resultType, Supplier<T> action) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(String.format(KEY_TOO_LONG, MAX_KEY_LENGTH));
+        }
+        String requestDigest = digest(request);
+
+        IdempotencyKey record = frontCache.getIfPresent(key);
+        if (record == null || isExpired(record)) {
+            record = executeOnce(key, requestDigest, action);
+        } else {
+            log.info("Replaying cached response for idempotency key {}", key);
+        }
+
+        if (!requestDigest.equals(record.getRequestDigest())) {
+            throw new IllegalArgumentException(KEY_REUSED);
+        }
+        return readResponse(record, resultType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, CacheStatsDto> getCacheStats() {
+        return Map.of("idempotencyKeys", CacheStatsDto.of(frontCache));
+    }
+
+    /**
+     * Deletes expired keys from the table once an hour.
+     */
+    @Scheduled(fixedRate = 3_600_000)
+    @Transactional
+    public void purgeExpiredKeys() {
+        int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    /**
+     * Runs {@link #loadOrRun} for the key unless another thread already is,
+     * in which case it waits for that thread's outcome.
+     *
+     * @param key         the scoped idempotency key
+     * @param requestDigest fingerprint of the request body
+     * @param action        the operation to run on a miss
+     * @return the stored record for the key
+     */
+    private IdempotencyKey executeOnce(String key, String requestDigest, Supplier<?> action) {
+        CompletableFuture<IdempotencyKey> mine = new CompletableFuture<>();
+        CompletableFuture<IdempotencyKey> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            log.info("Waiting for in-flight request with idempotency key {}", key);
+            try {
+                return running.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+
+        try {
+            IdempotencyKey record = loadOrRun(key, requestDigest, action);
+            frontCache.put(key, record);
+            mine.complete(record);
+            return record;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Returns the unexpired stored record for the key or runs the action
+     * and inserts its result atomically with it, replacing an expired record.
+     * If another instance inserted the key meanwhile, the insert fails on
+     * the primary key once that instance commits and its record is replayed.
+     *
+     * @param key           the scoped idempotency key
+     * @param requestDigest fingerprint of the request body
+     * @param action        the operation to run on a miss
+     * @return the stored record for the key
+     */
+    private IdempotencyKey loadOrRun(String key, String requestDigest, Supplier<?> action) {
+        IdempotencyKey stored = idempotencyKeyRepository.findById(key)
+            .filter(k -> !isExpired(k))
+            .orElse(null);
+        if (stored != null) {
+            log.info("Replaying stored response for idempotency key {}", key);
+            return stored;
+        }
+
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                Object result = action.get();
+
+                LocalDateTime now = LocalDateTime.now();
+                idempotencyKeyRepository.deleteExpiredById(key, now);
+                IdempotencyKey record = new IdempotencyKey();
+                record.setId(key);
+                record.setRequestDigest(requestDigest);
+                record.setResponse(writeResponse(result));
+                record.setCreatedAt(now);
+                record.setExpiresAt(now.plus(KEY_TTL));
+                return idempotencyKeyRepository.saveAndFlush(record);
+            });
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Idempotency key {} was stored concurrently, replaying winner", key);
+            return idempotencyKeyRepository.findById(key).orElseThrow(() -> ex);
+        }
+    }
+
+    private boolean isExpired(IdempotencyKey record) {
+        return record.getExpiresAt().isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * Returns the hex SHA-256 of the canonical JSON of a request body.
+     */
+    private String digest(Object request) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonicalWriter.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(hash);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize idempotent request", ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private String writeResponse(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize idempotent response", ex);
+        }
+    }
+
+    private <T> T readResponse(IdempotencyKey record, Class<T> resultType) {
+        try {
+            return objectMapper.readValue(record.getResponse(), resultType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not deserialize idempotent response", ex);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ivay.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ivay.dtos.auth.LoginStatsDto;
+import com.ivay.exception.TooManyLoginAttemptsException;
+import com.ivay.util.TokenBucket;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-address and per-username rate limits on login attempts.
+ *
+ * Each client address and each username gets its own {@link TokenBucket};
+ * an attempt takes one token from both, before the user is looked up or its
+ * password hashed. Buckets live in bounded Caffeine caches and are dropped
+ * once idle for a full refill period, when they would be full again anyway.
+ *
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private static final String TOO_MANY_FROM_ADDRESS  = "Too many login attempts from this address, please retry later";
+    private static final String TOO_MANY_FOR_USERNAME = "Too many login attempts for this user, please retry later";
+
+    private final Cache<String, TokenBucket> addressBuckets;
+    private final Cache<String, TokenBucket> usernameBuckets;
+    private final long addressCapacity;
+    private final Duration addressPeriod;
+    private final long usernameCapacity;
+    private final Duration usernamePeriod;
+
+    private final LongAdder throttledByAddress = new LongAdder();
+    private final LongAdder throttledByUsername = new LongAdder();
+
+    public LoginThrottle(
+            @Value("${security.login.throttle.address.capacity:20}") long addressCapacity,
+            @Value("${security.login.throttle.address.period:PT1M}") Duration addressPeriod,
+            @Value("${security.login.throttle.username.capacity:5}") long usernameCapacity,
+            @Value("${security.login.throttle.username.period:PT1M}") Duration usernamePeriod,
+            @Value("${security.login.throttle.max-keys:100000}") long maxKeys) {
+        this.addressCapacity = addressCapacity;
+        this.addressPeriod = addressPeriod;
+        this.usernameCapacity = usernameCapacity;
+        this.usernamePeriod = usernamePeriod;
+        this.addressBuckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(addressPeriod)
+            .build();
+        this.usernameBuckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(usernamePeriod)
+            .build();
+    }
+
+    /**
+     * Takes one login attempt from the client address and from the username.
+     * Usernames are compared case-insensitively, like the database does.
+     *
+     * @param clientAddress the remote address of the client
+     * @param username      the username being logged into
+     * @throws TooManyLoginAttemptsException if either limit is used up
+     */
+    public void acquire(String clientAddress, String username) {
+        Duration wait = addressBuckets
+            .get(clientAddress, key -> new TokenBucket(addressCapacity, addressPeriod))
+            .tryConsume();
+        if (!wait.isZero()) {
+            throttledByAddress.increment();
+            log.warn("Throttled login attempt from {}", clientAddress);
+            throw new TooManyLoginAttemptsException(TOO_MANY_FROM_ADDRESS, wait);
+        }
+
+        wait = usernameBuckets
+            .get(username.toLowerCase(Locale.ROOT), key -> new TokenBucket(usernameCapacity, usernamePeriod))
+            .tryConsume();
+        if (!wait.isZero()) {
+            throttledByUsername.increment();
+            log.warn("Throttled login attempt for user {} from {}", username, clientAddress);
+            throw new TooManyLoginAttemptsException(TOO_MANY_FOR_USERNAME, wait);
+        }
+    }
+
+    /**
+     * Copies the throttling counters into the given statistics.
+     *
+     * @param stats the statistics to fill
+     */
+    public void fillStats(LoginStatsDto stats) {
+        stats.setThrottledByAddress(throttledByAddress.sum());
+        stats.setThrottledByUsername(throttledByUsername.sum());
+    }
+}
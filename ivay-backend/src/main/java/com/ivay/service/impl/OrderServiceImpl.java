@@ -5,34 +5,47 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import com.ivay.cache.ProductCatalogCache;
 import com.ivay.dtos.orderdto.OrderResponseDto;
+import com.ivay.dtos.orderdto.checkout.CheckoutRequestDto;
 import com.ivay.dtos.orderdto.create.CreateOrderRequestDto;
 import com.ivay.dtos.orderdto.update.UpdateOrderDto;
 import com.ivay.dtos.orderitemdto.OrderItemResponseDto;
 import com.ivay.dtos.orderitemdto.create.CreateOrderItemRequestDto;
+import com.ivay.entity.CartItem;
 import com.ivay.entity.Order;
 import com.ivay.entity.OrderItem;
 import com.ivay.entity.Product;
 import com.ivay.entity.UserEntity;
+import com.ivay.exception.InsufficientStockException;
 import com.ivay.exception.ResourceNotFoundException;
 import com.ivay.mappers.OrderItemMapper;
 import com.ivay.mappers.OrderMapper;
+import com.ivay.repository.CartItemRepository;
 import com.ivay.repository.OrderRepository;
 import com.ivay.repository.ProductRepository;
 import com.ivay.repository.UserRepository;
+import com.ivay.service.CatalogService;
 import com.ivay.service.OrderService;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing orders.
  *
  * Implements methods to create, retrieve, update and delete orders,
- * as well as to fetch order items for a given order.
+ * to check out a user's cart, and to fetch order items for a given order.
  * Validates existence of users, products and orders, checks stock levels,
  * applies discounts and calculates totals.
  *
@@ -49,12 +62,17 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final CartItemRepository cartItemRepository;
     private final OrderMapper orderMapper;
     private final OrderItemMapper orderItemMapper;
+    private final ProductCatalogCache productCatalogCache;
+    private final CatalogService catalogService;
 
-    private static final String ORDER_NOT_FOUND   = "Order with id %d not found";
-    private static final String USER_NOT_FOUND    = "User with id %d not found (for order creation)";
-    private static final String PRODUCT_NOT_FOUND = "Product with id %d not found (for order item creation)";
+    private static final String ORDER_NOT_FOUND    = "Order with id %d not found";
+    private static final String USER_NOT_FOUND     = "User with id %d not found (for order creation)";
+    private static final String USERNAME_NOT_FOUND = "User %s not found (for checkout)";
+    private static final String PRODUCTS_NOT_FOUND = "Products with ids %s not found (for order item creation)";
+    private static final String CART_EMPTY         = "Cannot checkout an empty cart";
 
     /**
      * Retrieves an Order entity by its identifier or throws if not found.
@@ -83,16 +101,27 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Retrieves a Product by its identifier or throws if not found.
+     * Loads every product referenced by an order in a single query.
      *
-     * @param productId the id of the product to validate
-     * @return the Product entity
-     * @throws ResourceNotFoundException if no product exists with that id
+     * Identifiers are deduplicated and sorted so the lookup, and the stock
+     * updates that follow it, always touch rows in the same order.
+     *
+     * @param productIds the ids of the products to validate
+     * @return the Product entities keyed by id
+     * @throws ResourceNotFoundException listing every id that does not exist
      */
-    private Product validateAndGetProduct(Long productId) {
-        return productRepository.findById(productId)
-            .orElseThrow(() -> new ResourceNotFoundException(
-                String.format(PRODUCT_NOT_FOUND, productId)));
+    private Map<Long, Product> validateAndGetProducts(Collection<Long> productIds) {
+        List<Long> ids = productIds.stream().distinct().sorted().toList();
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Long> missing = ids.stream()
+            .filter(id -> !products.containsKey(id))
+            .toList();
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException(String.format(PRODUCTS_NOT_FOUND, missing));
+        }
+        return products;
     }
 
     /**
@@ -148,14 +177,17 @@ public class OrderServiceImpl implements OrderService {
      * {@inheritDoc}
      *
      * Creates a new order with associated items.
-     * Validates user and product existence, checks stock,
-     * calculates item and order totals, updates product stock,
+     * Validates user and product existence, calculates item and order totals,
      * and persists the order and its items.
      *
+     * All referenced products are loaded with one query before the order is
+     * handed to {@link #placeOrder}.
+     *
      * @param createOrderRequestDto the DTO containing order and item data
      * @return the created OrderResponseDto
-     * @throws ResourceNotFoundException if the user or any product is not found
-     * @throws IllegalStateException if any item quantity exceeds available stock
+     * @throws ResourceNotFoundException if the user or any product is not found,
+     *         listing all missing product ids at once
+     * @throws InsufficientStockException if any item quantity exceeds available stock
      */
     @Override
     public OrderResponseDto createOrder(CreateOrderRequestDto createOrderRequestDto) {
@@ -163,25 +195,114 @@ public class OrderServiceImpl implements OrderService {
 
         UserEntity user = validateAndGetUser(createOrderRequestDto.getUserId());
 
+        List<CreateOrderItemRequestDto> items = createOrderRequestDto.getItems();
+        Map<Long, Product> products = validateAndGetProducts(
+            items.stream().map(CreateOrderItemRequestDto::getProductId).toList());
+
+        return placeOrder(user, createOrderRequestDto.getPaymentMethod(),
+            createOrderRequestDto.getGlobalDiscount(), items, products);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Converts the authenticated user's cart into an order in one transaction.
+     * Cart lines are read together with their products in a single query,
+     * priced and stock-checked exactly like {@link #createOrder}, and the cart
+     * is then emptied with one bulk DELETE.
+     *
+     * @param username the name of the authenticated user
+     * @param checkoutRequestDto the DTO containing payment method and discount
+     * @return the created OrderResponseDto
+     * @throws ResourceNotFoundException if the user does not exist
+     * @throws IllegalArgumentException if the cart is empty
+     * @throws InsufficientStockException if any cart quantity exceeds available stock
+     */
+    @Override
+    public OrderResponseDto checkout(String username, CheckoutRequestDto checkoutRequestDto) {
+        log.info("Attempting checkout for user: {}", username);
+
+        UserEntity user = userRepository.findUserEntityByName(username)
+            .orElseThrow(() -> new ResourceNotFoundException(
+                String.format(USERNAME_NOT_FOUND, username)));
+
+        List<CartItem> cartItems = cartItemRepository.findWithProductByUserId(user.getId());
+        if (cartItems.isEmpty()) {
+            throw new IllegalArgumentException(CART_EMPTY);
+        }
+
+        Map<Long, Product> products = new HashMap<>();
+        List<CreateOrderItemRequestDto> items = new ArrayList<>();
+        for (CartItem cartItem : cartItems) {
+            products.put(cartItem.getProduct().getId(), cartItem.getProduct());
+
+            CreateOrderItemRequestDto item = new CreateOrderItemRequestDto();
+            item.setProductId(cartItem.getProduct().getId());
+            item.setQuantity(cartItem.getQuantity());
+            items.add(item);
+        }
+
+        int cleared = cartItemRepository.deleteByUser_Id(user.getId());
+        log.info("Cleared {} cart items for user id: {}", cleared, user.getId());
+
+        return placeOrder(user, checkoutRequestDto.getPaymentMethod(),
+            checkoutRequestDto.getGlobalDiscount(), items, products);
+    }
+
+    /**
+     * Prices, stock-checks and persists an order for already validated products.
+     *
+     * Quantities are summed per product and decremented in a single JDBC batch of
+     * conditional UPDATEs, in ascending id order, so the availability check and the
+     * subtraction cannot interleave with other checkouts and concurrent orders cannot
+     * deadlock. If any item cannot be served the whole transaction rolls back;
+     * otherwise the cached catalog entries of the ordered products are evicted
+     * and the shared stock epoch advanced on commit, since their stock changed.
+     * Stock decrements are not recorded as catalog changes: taking a catalog
+     * version would serialize every checkout on the version counter and
+     * retire every search cache entry.
+     *
+     * @param user           the owner of the order
+     * @param paymentMethod  payment method used for the order
+     * @param globalDiscount discount applied to the entire order, or null for none
+     * @param items          the order lines
+     * @param products       every product referenced by {@code items}, keyed by id
+     * @return the created OrderResponseDto
+     * @throws InsufficientStockException if any item quantity exceeds available stock
+     */
+    private OrderResponseDto placeOrder(UserEntity user,
+                                        String paymentMethod,
+                                        BigDecimal globalDiscount,
+                                        List<CreateOrderItemRequestDto> items,
+                                        Map<Long, Product> products) {
         Order order = new Order();
         order.setUser(user);
         order.setBillDate(LocalDateTime.now());
-        order.setPaymentMethod(createOrderRequestDto.getPaymentMethod());
-        order.setGlobalDiscount(createOrderRequestDto.getGlobalDiscount() != null
-            ? createOrderRequestDto.getGlobalDiscount() : BigDecimal.ZERO);
+        order.setPaymentMethod(paymentMethod);
+        order.setGlobalDiscount(globalDiscount != null ? globalDiscount : BigDecimal.ZERO);
         order.setOrderItems(new ArrayList<>());
 
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (CreateOrderItemRequestDto itemDto : items) {
+            quantities.merge(itemDto.getProductId(), itemDto.getQuantity(), Integer::sum);
+        }
+
+        List<Long> rejected = productRepository.decrementStock(quantities);
+        if (!rejected.isEmpty()) {
+            List<String> names = rejected.stream()
+                .map(id -> products.get(id).getName())
+                .toList();
+            log.error("Insufficient stock for product ids {}. Requested: {}", rejected, quantities);
+            throw new InsufficientStockException("Insufficient stock for products: " + String.join(", ", names));
+        }
+        productCatalogCache.evictProducts(quantities.keySet());
+        catalogService.recordStockChange();
+
         BigDecimal totalAmount = BigDecimal.ZERO;
-        for (CreateOrderItemRequestDto itemDto : createOrderRequestDto.getItems()) {
-            Product product = validateAndGetProduct(itemDto.getProductId());
+        for (CreateOrderItemRequestDto itemDto : items) {
+            Product product = products.get(itemDto.getProductId());
             int quantity = itemDto.getQuantity();
 
-            if (product.getStock() == null || product.getStock() < quantity) {
-                log.error("Insufficient stock for product id {}. Requested: {}, Available: {}",
-                    product.getId(), quantity, product.getStock());
-                throw new IllegalStateException("Insufficient stock for product: " + product.getName());
-            }
-
             OrderItem orderItem = new OrderItem();
             orderItem.setOrder(order);
             orderItem.setProduct(product);
@@ -198,9 +319,6 @@ public class OrderServiceImpl implements OrderService {
 
             totalAmount = totalAmount.add(itemTotal);
 
-            product.setStock(product.getStock() - quantity);
-            productRepository.save(product);
-
             order.getOrderItems().add(orderItem);
         }
 
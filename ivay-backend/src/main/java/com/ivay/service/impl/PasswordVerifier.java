@@ -0,0 +1,156 @@
+package com.ivay.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.ivay.dtos.auth.LoginStatsDto;
+import com.ivay.exception.LoginCapacityExceededException;
+
+import jakarta.annotation.PreDestroy;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verifies login passwords on a dedicated, bounded executor.
+ *
+ * BCrypt is deliberately slow, so a burst of logins hashed on the request
+ * threads would take every core away from the rest of the API. Here at most
+ * {@code threads} hashes run at once and at most {@code queue-capacity}
+ * wait; anything beyond that, or still unfinished after the timeout, is
+ * rejected at once with a {@link LoginCapacityExceededException}.
+ *
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class PasswordVerifier {
+
+    private static final String LOGIN_BUSY = "Too many logins in progress, please retry later";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final Duration retryAfter;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param passwordEncoder the encoder the passwords were hashed with
+     * @param threads         number of verifier threads, 0 for half the available processors
+     * @param queueCapacity   maximum number of verifications waiting for a thread
+     * @param timeout         maximum time a login waits for its verification
+     * @param retryAfter      wait suggested to rejected clients
+     */
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder,
+            @Value("${security.login.executor.threads:0}") int threads,
+            @Value("${security.login.executor.queue-capacity:32}") int queueCapacity,
+            @Value("${security.login.executor.timeout:PT3S}") Duration timeout,
+            @Value("${security.login.executor.retry-after:PT1S}") Duration retryAfter) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.passwordEncoder = passwordEncoder;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("login-verify-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        log.info("Login password verifier started with {} threads and a queue of {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Checks a raw password against its stored hash on the verifier executor.
+     * The calling thread waits, without using CPU, for at most the timeout.
+     *
+     * @param rawPassword     the password provided by the client
+     * @param encodedPassword the stored hash
+     * @return true if the password matches
+     * @throws LoginCapacityExceededException if the queue is full or the timeout elapses
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> timedMatch(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new LoginCapacityExceededException(LOGIN_BUSY, retryAfter);
+        }
+
+        try {
+            return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            result.cancel(true);
+            timedOut.increment();
+            throw new LoginCapacityExceededException(LOGIN_BUSY, retryAfter);
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginCapacityExceededException(LOGIN_BUSY, retryAfter);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password verification failed", ex.getCause());
+        }
+    }
+
+    /**
+     * Hashes and compares the password, recording how long it took.
+     */
+    private boolean timedMatch(String rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        try {
+            return passwordEncoder.matches(rawPassword, encodedPassword);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            completed.increment();
+            hashNanos.add(elapsed);
+            maxHashNanos.accumulate(elapsed);
+        }
+    }
+
+    /**
+     * Copies the executor load and hash latency into the given statistics.
+     *
+     * @param stats the statistics to fill
+     */
+    public void fillStats(LoginStatsDto stats) {
+        long count = completed.sum();
+        stats.setVerifierThreads(executor.getCorePoolSize());
+        stats.setActiveVerifications(executor.getActiveCount());
+        stats.setQueuedVerifications(executor.getQueue().size());
+        stats.setQueueCapacity(queueCapacity);
+        stats.setCompletedVerifications(count);
+        stats.setRejectedVerifications(rejected.sum());
+        stats.setTimedOutVerifications(timedOut.sum());
+        stats.setAverageHashMillis(count == 0 ? 0.0 : hashNanos.sum() / (double) count / 1_000_000.0);
+        stats.setMaxHashMillis(maxHashNanos.get() / 1_000_000.0);
+    }
+
+    /**
+     * Stops the verifier threads; verifications still queued are dropped.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
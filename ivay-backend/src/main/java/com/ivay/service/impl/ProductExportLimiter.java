@@ -0,0 +1,91 @@
+package com.ivay.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ivay.exception.ExportCapacityExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of product exports running at once.
+ *
+ * Each export holds a pooled connection and an open streaming result set
+ * for as long as the client keeps reading, so a few slow clients could
+ * otherwise exhaust the connection pool. Exports beyond the limit are
+ * rejected at once rather than queued.
+ *
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class ProductExportLimiter {
+
+    private static final String EXPORTS_BUSY = "Too many exports in progress, please retry later";
+
+    private final Semaphore permits;
+    private final Duration timeout;
+    private final Duration retryAfter;
+
+    /**
+     * @param maxConcurrent maximum number of exports running at once
+     * @param timeout       maximum duration of one export response
+     * @param retryAfter    wait suggested to rejected clients
+     */
+    public ProductExportLimiter(
+            @Value("${catalog.export.max-concurrent:2}") int maxConcurrent,
+            @Value("${catalog.export.timeout:PT30M}") Duration timeout,
+            @Value("${catalog.export.retry-after:PT30S}") Duration retryAfter) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Takes a permit for one export; it must be released once the export
+     * ends, whether it succeeded, failed, timed out or never started.
+     *
+     * @return the permit, safe to release more than once
+     * @throws ExportCapacityExceededException if every permit is taken
+     */
+    public Permit acquire() {
+        if (!permits.tryAcquire()) {
+            log.warn("Rejected product export, the maximum number is already running");
+            throw new ExportCapacityExceededException(EXPORTS_BUSY, retryAfter);
+        }
+        return new Permit();
+    }
+
+    /**
+     * Returns the maximum duration of one export response.
+     *
+     * @return the async request timeout for exports
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * A permit held by one export. Only the first {@link #release()} returns
+     * it, so every path that may end the export can release it.
+     */
+    public final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        /**
+         * Returns the permit, unless it was already returned.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ivay.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.ivay.dtos.productdto.PaginatedProductResponseDto;
+import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.entity.Product;
+import com.ivay.exception.ResourceNotFoundException;
+import com.ivay.repository.ProductKeyset;
+import com.ivay.repository.ProductRepository;
+
+import java.util.List;
+
+/**
+ * Reads one page of a filtered product listing, such as the products of a
+ * category or of a supplier.
+ *
+ * Products are read as DTOs by a single projection query, fetching
+ * {@code size + 1} rows to tell whether a next page exists, and the COUNT
+ * query only runs when totals are requested. A {@code nextCursor} is returned
+ * whenever there is a next page, so deep pages can be reached by seeking
+ * instead of skipping rows. Each listing should be backed by an index on
+ * (filter column, sort field, id).
+ *
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductListingQuery {
+
+    private static final String INVALID_PAGE      = "Page index must not be less than zero";
+    private static final String INVALID_PAGE_SIZE = "Page size must be between 1 and 100";
+    private static final String OFFSET_TOO_LARGE  = "Page %d is too deep, use the nextCursor of the previous page";
+    private static final String PAGE_OUT_OF_RANGE = "Page %d out of range";
+
+    /** Largest page size a listing may request. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** Largest number of rows a page index may skip; deeper pages are reached by cursor. */
+    public static final long MAX_OFFSET = 100_000;
+
+    private final ProductRepository productRepository;
+
+    /**
+     * Reads one page of the products matching the filter.
+     *
+     * @param filter       the products to list
+     * @param page         zero-based page index, ignored when {@code after} is given
+     * @param size         number of products per page
+     * @param sort         sort field: "id", "price" or "name"
+     * @param direction    sort direction: "asc" or "desc"
+     * @param after        opaque cursor from a previous response, or null
+     * @param includeTotal whether to compute totalElements and totalPages
+     * @return {@link PaginatedProductResponseDto} containing content and metadata
+     * @throws ResourceNotFoundException if the page index is out of range
+     * @throws IllegalArgumentException  if the page, size, sort field, direction or cursor is invalid,
+     *                                   or the page skips more than {@link #MAX_OFFSET} rows
+     */
+    public PaginatedProductResponseDto read(
+            Specification<Product> filter,
+            int page, int size, String sort, String direction, String after, boolean includeTotal) {
+        if (page < 0) {
+            throw new IllegalArgumentException(INVALID_PAGE);
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(INVALID_PAGE_SIZE);
+        }
+        long offset = (long) page * size;
+        if (after == null && offset > MAX_OFFSET) {
+            throw new IllegalArgumentException(String.format(OFFSET_TOO_LARGE, page));
+        }
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Sort order = ProductKeyset.order(sort, sortDirection);
+
+        PaginatedProductResponseDto result = new PaginatedProductResponseDto();
+        List<ProductResponseDto> window;
+        if (after == null) {
+            window = productRepository.findProductResponses(filter, order, offset, size + 1);
+            if (page > 0 && window.isEmpty()) {
+                throw new ResourceNotFoundException(String.format(PAGE_OUT_OF_RANGE, page));
+            }
+            result.setPage(page);
+        } else {
+            Specification<Product> seek = ProductKeyset.decode(after, sort, sortDirection);
+            window = productRepository.findProductResponses(filter.and(seek), order, 0, size + 1);
+        }
+
+        boolean hasNext = window.size() > size;
+        List<ProductResponseDto> products = hasNext ? window.subList(0, size) : window;
+        result.setContent(products);
+        result.setSize(size);
+        result.setHasNext(hasNext);
+        if (hasNext) {
+            result.setNextCursor(ProductKeyset.encode(products.get(products.size() - 1), sort, sortDirection));
+        }
+        if (includeTotal) {
+            long total = productRepository.count(filter);
+            result.setTotalElements(total);
+            result.setTotalPages((int) ((total + size - 1) / size));
+        }
+        return result;
+    }
+}
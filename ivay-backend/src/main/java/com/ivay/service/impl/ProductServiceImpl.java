@@ -1,19 +1,29 @@
 package com.ivay.service.impl;
 
 import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ivay.cache.ProductCatalogCache;
+import com.ivay.cache.SearchResultCache;
 import com.ivay.dtos.cartitemdto.CartItemResponseDto;
 import com.ivay.dtos.orderitemdto.OrderItemResponseDto;
 import com.ivay.dtos.productdto.PaginatedProductResponseDto;
+import com.ivay.dtos.productdto.ProductBatchResponseDto;
 import com.ivay.dtos.productdto.ProductRequestDto;
 import com.ivay.dtos.productdto.ProductResponseDto;
+import com.ivay.dtos.productdto.ProductSearchCriteriaDto;
+import com.ivay.dtos.productdto.ProductSearchResponseDto;
+import com.ivay.entity.CatalogChange;
 import com.ivay.entity.Category;
 import com.ivay.entity.Product;
 import com.ivay.entity.Supplier;
@@ -23,11 +33,27 @@ import com.ivay.mappers.OrderItemMapper;
 import com.ivay.mappers.ProductMapper;
 import com.ivay.repository.CategoryRepository;
 import com.ivay.repository.ProductRepository;
+import com.ivay.repository.ProductSpecifications;
 import com.ivay.repository.SupplierRepository;
+import com.ivay.search.ProductSearchIndex;
+import com.ivay.search.SearchText;
+import com.ivay.search.SuggestionIndex;
+import com.ivay.service.CatalogService;
 import com.ivay.service.ProductService;
+import com.ivay.util.TransactionCallbacks;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.Objects;
 
 /**
@@ -37,6 +63,10 @@ import java.util.Objects;
  * and retrieval of associated order and cart items.
  * Validates existence of related entities (category, supplier),
  * enforces business rules for deletion, and supports stock checks.
+ * Lookups by id and the full product list are served from the
+ * {@link ProductCatalogCache}, and name searches from the
+ * {@link ProductSearchIndex}; writes update both on commit and
+ * schedule a rebuild of the {@link SuggestionIndex}.
  *
  * All methods run within a transactional context and write logs
  * for key actions and warnings.
@@ -55,10 +85,28 @@ public class ProductServiceImpl implements ProductService {
     private final SupplierRepository    supplierRepository;
     private final OrderItemMapper       orderItemMapper;
     private final CartItemMapper        cartItemMapper;
+    private final ProductCatalogCache   productCatalogCache;
+    private final SearchResultCache     searchResultCache;
+    private final ProductSearchIndex    productSearchIndex;
+    private final SuggestionIndex       suggestionIndex;
+    private final CatalogService        catalogService;
+    private final ObjectMapper          objectMapper;
+    private final ProductListingQuery   productListingQuery;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     private static final String PRODUCT_NOT_FOUND   = "Product with id %d not found";
     private static final String CATEGORY_NOT_FOUND  = "Category with id %d not found (for product creation/update)";
     private static final String SUPPLIER_NOT_FOUND  = "Supplier with id %d not found (for product creation/update)";
+    private static final String BATCH_TOO_LARGE     = "Cannot fetch more than %d products at once";
+    private static final String INVALID_PRICE_RANGE = "Minimum price cannot be greater than maximum price";
+    private static final String INVALID_FORMAT      = "Cannot export products as '%s'; use ndjson or csv";
+
+    private static final String CSV_HEADER =
+        "id,name,description,price,stock,discount,imageUrl,categoryId,supplierId";
+
+    private static final int MAX_BATCH_SIZE = 500;
 
     /**
      * Retrieves a {@link Product} by its id or throws if not found.
@@ -107,6 +155,22 @@ public class ProductServiceImpl implements ProductService {
                 String.format(SUPPLIER_NOT_FOUND, supplierId)));
     }
 
+    /**
+     * Updates the search index entry of the product and schedules a
+     * suggestion index rebuild once the transaction commits.
+     *
+     * @param product the created or updated product
+     */
+    private void reindexAfterCommit(Product product) {
+        Long id = product.getId();
+        String name = product.getName();
+        String description = product.getDescription();
+        TransactionCallbacks.afterCommit(() -> {
+            productSearchIndex.index(id, name, description);
+            suggestionIndex.markStale();
+        });
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -116,26 +180,135 @@ public class ProductServiceImpl implements ProductService {
      */
     @Override
     public List<ProductResponseDto> getAllProducts() {
-        log.info("Fetching all products");
-        return productRepository.findAll().stream()
-            .map(productMapper::toProductResponse)
-            .toList();
+        return productCatalogCache.getAllProducts(() -> {
+            log.info("Fetching all products");
+            return productRepository.findAll().stream()
+                .map(productMapper::toProductResponse)
+                .toList();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Scans the products over a streaming JDBC cursor and detaches each one
+     * once written, so neither the result set nor the persistence context
+     * grows with the catalog. The transaction, and its connection, stay open
+     * until the last row is written.
+     */
+    @Override
+    public void exportProducts(String format, OutputStream outputStream) throws IOException {
+        boolean csv = "csv".equals(format);
+        if (!csv && !"ndjson".equals(format)) {
+            throw new IllegalArgumentException(String.format(INVALID_FORMAT, format));
+        }
+
+        log.info("Exporting all products as {}", format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(ProductResponseDto.class);
+        long count = 0;
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+        try (Stream<Product> products = productRepository.streamAllByOrderById()) {
+            for (Product product : (Iterable<Product>) products::iterator) {
+                ProductResponseDto dto = productMapper.toProductResponse(product);
+                entityManager.detach(product);
+                if (csv) {
+                    writeCsvRow(writer, dto);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(dto));
+                    writer.write('\n');
+                }
+                count++;
+            }
+        }
+        writer.flush();
+        log.info("Exported {} products as {}", count, format);
+    }
+
+    /**
+     * Writes one product as an RFC 4180 CSV row.
+     */
+    private static void writeCsvRow(Writer writer, ProductResponseDto dto) throws IOException {
+        writer.write(String.join(",",
+            csvField(dto.getId()),
+            csvField(dto.getName()),
+            csvField(dto.getDescription()),
+            csvField(dto.getPrice()),
+            csvField(dto.getStock()),
+            csvField(dto.getDiscount()),
+            csvField(dto.getImageUrl()),
+            csvField(dto.getCategoryId()),
+            csvField(dto.getSupplierId())));
+        writer.write("\r\n");
+    }
+
+    /**
+     * Formats a CSV field, quoting it when it contains a separator,
+     * a quote or a line break. Null values become empty fields.
+     */
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Loads the given products from the database and maps them, keyed by id.
+     * Used as the bulk loader of the catalog cache.
+     *
+     * @param productIds the ids to load
+     * @return the found products keyed by id
+     */
+    private Map<Long, ProductResponseDto> loadProductResponses(Set<Long> productIds) {
+        log.info("Fetching {} products by id", productIds.size());
+        return productRepository.findAllById(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, productMapper::toProductResponse));
     }
 
     /**
      * {@inheritDoc}
      *
-     * Finds products whose name contains the given substring, case-insensitive.
+     * Searches the in-memory index over product names and descriptions:
+     * accent- and case-insensitive, with every word also matching as a prefix,
+     * and results ranked by relevance. Matching products are then read from
+     * the catalog cache. While the index is still being built after startup,
+     * falls back to a substring match on the name.
+     *
+     * In fuzzy mode words also match indexed terms one edit away (two for
+     * words of six letters or more), so "hedphones" still finds "headphones";
+     * such matches rank below exact and prefix ones.
      *
-     * @param name substring to search for
-     * @return list of matching {@link ProductResponseDto}
+     * Index results are cached by normalized query until the next catalog write.
+     *
+     * @param name  text to search for
+     * @param fuzzy whether to also match misspelled words
+     * @return list of matching {@link ProductResponseDto}, best match first
      */
     @Override
-    public List<ProductResponseDto> findProductsByName(String name) {
-        log.info("Finding products with name containing: {}", name);
-        return productRepository.findByNameContainingIgnoreCase(name).stream()
-            .map(productMapper::toProductResponse)
-            .toList();
+    public List<ProductResponseDto> findProductsByName(String name, boolean fuzzy) {
+        if (!productSearchIndex.isReady() || SearchText.tokenize(name).isEmpty()) {
+            log.info("Finding products with name containing: {}", name);
+            return productRepository.findByNameContainingIgnoreCase(name).stream()
+                .map(productMapper::toProductResponse)
+                .toList();
+        }
+
+        return searchResultCache.getProducts(name, fuzzy, () -> {
+            List<Long> ids = productSearchIndex.search(name, fuzzy);
+            Map<Long, ProductResponseDto> found = productCatalogCache.getProducts(ids, this::loadProductResponses);
+            return ids.stream()
+                .filter(found::containsKey)
+                .map(found::get)
+                .toList();
+        });
     }
 
     /**
@@ -149,9 +322,44 @@ public class ProductServiceImpl implements ProductService {
      */
     @Override
     public ProductResponseDto getProductById(Long productId) {
-        log.info("Fetching product with id: {}", productId);
-        Product product = validateAndGetProduct(productId);
-        return productMapper.toProductResponse(product);
+        return productCatalogCache.getProduct(productId, id -> {
+            log.info("Fetching product with id: {}", id);
+            return productMapper.toProductResponse(validateAndGetProduct(id));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Serves cached products first and resolves the rest with a single query. Duplicate ids are returned once,
+     * products keep the order in which their ids were requested, and unknown
+     * ids are reported in {@code missingIds} instead of failing the request.
+     *
+     * @param productIds the ids of the products
+     * @return {@link ProductBatchResponseDto} with found products and missing ids
+     * @throws IllegalArgumentException if more than the allowed number of ids is requested
+     */
+    @Override
+    public ProductBatchResponseDto getProductsByIds(List<Long> productIds) {
+        List<Long> ids = productIds.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(String.format(BATCH_TOO_LARGE, MAX_BATCH_SIZE));
+        }
+
+        Map<Long, ProductResponseDto> found = productCatalogCache.getProducts(ids, this::loadProductResponses);
+
+        ProductBatchResponseDto result = new ProductBatchResponseDto();
+        result.setProducts(ids.stream()
+            .filter(found::containsKey)
+            .map(found::get)
+            .toList());
+        result.setMissingIds(ids.stream()
+            .filter(id -> !found.containsKey(id))
+            .toList());
+        return result;
     }
 
     /**
@@ -172,6 +380,9 @@ public class ProductServiceImpl implements ProductService {
 
         Product saved = productRepository.save(product);
         log.info("Created product with id: {}", saved.getId());
+        productCatalogCache.evictProducts(List.of(saved.getId()));
+        catalogService.recordUpserts(CatalogChange.PRODUCT, List.of(saved.getId()));
+        reindexAfterCommit(saved);
         return productMapper.toProductResponse(saved);
     }
 
@@ -212,6 +423,9 @@ public class ProductServiceImpl implements ProductService {
 
         Product updated = productRepository.save(product);
         log.info("Updated product with id: {}", updated.getId());
+        productCatalogCache.evictProducts(List.of(productId));
+        catalogService.recordUpserts(CatalogChange.PRODUCT, List.of(productId));
+        reindexAfterCommit(updated);
         return productMapper.toProductResponse(updated);
     }
 
@@ -238,6 +452,12 @@ public class ProductServiceImpl implements ProductService {
 
         productRepository.delete(product);
         log.info("Deleted product with id: {}", productId);
+        productCatalogCache.evictProducts(List.of(productId));
+        catalogService.recordDeletion(CatalogChange.PRODUCT, productId);
+        TransactionCallbacks.afterCommit(() -> {
+            productSearchIndex.remove(productId);
+            suggestionIndex.markStale();
+        });
     }
 
     /**
@@ -279,36 +499,74 @@ public class ProductServiceImpl implements ProductService {
     /**
      * {@inheritDoc}
      *
-     * Retrieves a paginated page of products sorted by id.
+     * Delegates to {@link ProductListingQuery} over every product, so the
+     * page size, offset and cursor rules match the category and supplier
+     * listings.
      *
-     * @param page zero-based page index
-     * @param size number of items per page
+     * @param page         zero-based page index, ignored when {@code after} is given
+     * @param size         number of items per page, at most {@link ProductListingQuery#MAX_PAGE_SIZE}
+     * @param sort         sort field: "id", "price" or "name"
+     * @param direction    sort direction: "asc" or "desc"
+     * @param after        opaque cursor from a previous response, or null
+     * @param includeTotal whether to compute totalElements and totalPages
      * @return {@link PaginatedProductResponseDto} containing content and metadata
      * @throws ResourceNotFoundException if requested page index is out of range
+     * @throws IllegalArgumentException  if the page, size, sort field, direction or cursor is invalid,
+     *                                   or the page skips more than {@link ProductListingQuery#MAX_OFFSET} rows
      */
     @Override
-    public PaginatedProductResponseDto getProductsPaginated(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
-        Page<Product> productPage = productRepository.findAll(pageable);
-
-        if (page >= productPage.getTotalPages()) {
-            throw new ResourceNotFoundException(
-                String.format("Page %d out of range (total pages: %d)",
-                              page, productPage.getTotalPages()));
+    public PaginatedProductResponseDto getProductsPaginated(
+            int page, int size, String sort, String direction, String after, boolean includeTotal) {
+        return productListingQuery.read(ProductSpecifications.all(), page, size, sort, direction, after, includeTotal);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Filters are combined as JPA Specifications and run as one paged query
+     * (plus its COUNT), backed by the composite indexes declared on Product.
+     * Facets are disjunctive: category counts apply every filter except the
+     * category one, and supplier counts every filter except the supplier one,
+     * so selecting a category does not hide the other categories.
+     *
+     * @param criteria the filters, sort order and page to fetch
+     * @return {@link ProductSearchResponseDto} with content, metadata and facets
+     * @throws IllegalArgumentException if the price range is inverted
+     */
+    @Override
+    public ProductSearchResponseDto searchProducts(ProductSearchCriteriaDto criteria) {
+        if (criteria.getMinPrice() != null && criteria.getMaxPrice() != null
+                && criteria.getMinPrice().compareTo(criteria.getMaxPrice()) > 0) {
+            throw new IllegalArgumentException(INVALID_PRICE_RANGE);
         }
+        log.info("Searching products with criteria: {}", criteria);
 
-        List<ProductResponseDto> dtos = productPage.getContent().stream()
-            .map(productMapper::toProductResponse)
-            .collect(Collectors.toList());
+        Specification<Product> common = ProductSpecifications
+            .priceBetween(criteria.getMinPrice(), criteria.getMaxPrice())
+            .and(ProductSpecifications.discountAtLeast(criteria.getMinDiscount()))
+            .and(ProductSpecifications.inStock(criteria.isInStock()));
+        Specification<Product> byCategory = ProductSpecifications.inCategory(criteria.getCategoryId());
+        Specification<Product> bySupplier = ProductSpecifications.fromSupplier(criteria.getSupplierId());
+
+        Sort.Direction direction = Sort.Direction.fromString(criteria.getDirection());
+        Sort order = "id".equals(criteria.getSort())
+            ? Sort.by(direction, "id")
+            : Sort.by(direction, criteria.getSort()).and(Sort.by(direction, "id"));
+        Page<Product> productPage = productRepository.findAll(
+            common.and(byCategory).and(bySupplier),
+            PageRequest.of(criteria.getPage(), criteria.getSize(), order));
 
-        PaginatedProductResponseDto result = new PaginatedProductResponseDto();
-        result.setContent(dtos);
+        ProductSearchResponseDto result = new ProductSearchResponseDto();
+        result.setContent(productPage.getContent().stream()
+            .map(productMapper::toProductResponse)
+            .toList());
         result.setPage(productPage.getNumber());
         result.setSize(productPage.getSize());
         result.setTotalElements(productPage.getTotalElements());
         result.setTotalPages(productPage.getTotalPages());
         result.setHasNext(productPage.hasNext());
-
+        result.setCategoryFacets(productRepository.countByCategory(common.and(bySupplier)));
+        result.setSupplierFacets(productRepository.countBySupplier(common.and(byCategory)));
         return result;
     }
 }
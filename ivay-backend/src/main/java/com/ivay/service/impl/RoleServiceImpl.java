@@ -4,16 +4,21 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.ivay.dtos.roledto.RoleRequestDto;
 import com.ivay.dtos.roledto.RoleResponseDto;
 import com.ivay.entity.Role;
+import com.ivay.event.RoleChangedEvent;
 import com.ivay.exception.ResourceNotFoundException;
+import com.ivay.jwt.SecurityVersionRegistry;
 import com.ivay.mappers.RoleMapper;
 import com.ivay.repository.RoleRepository;
 import com.ivay.service.RoleService;
 
+import jakarta.transaction.Transactional;
+
 /**
  * Implementation of {@link RoleService} for managing security roles.
  *
@@ -32,6 +37,12 @@ public class RoleServiceImpl implements RoleService {
     @Autowired
     private RoleMapper roleMapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
     /**
      * Retrieves all roles in the system.
      *
@@ -75,7 +86,9 @@ public class RoleServiceImpl implements RoleService {
     }
 
     /**
-     * Updates the name of an existing role.
+     * Updates the name of an existing role. The tokens of all users with that
+     * role are revoked, since the role claim they carry is now stale, and a
+     * {@link RoleChangedEvent} drops their cached copies.
      *
      * @param id the identifier of the role to update
      * @param roleRequestDto the DTO containing the new role name
@@ -83,11 +96,14 @@ public class RoleServiceImpl implements RoleService {
      * @throws ResourceNotFoundException if no role exists with the given id
      */
     @Override
+    @Transactional
     public RoleResponseDto updateRole(Long id, RoleRequestDto roleRequestDto) {
         Role role = roleRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Role with id: " + id + " not found"));
         role.setRoleName(roleRequestDto.getRoleName());
         Role updatedRole = roleRepository.save(role);
+        securityVersionRegistry.revokeRole(id);
+        eventPublisher.publishEvent(new RoleChangedEvent(id));
         return roleMapper.toRoleResponse(updatedRole);
     }
 
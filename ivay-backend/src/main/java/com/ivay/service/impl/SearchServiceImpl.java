@@ -0,0 +1,40 @@
+package com.ivay.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import com.ivay.dtos.searchdto.SuggestionDto;
+import com.ivay.search.SuggestionIndex;
+import com.ivay.service.SearchService;
+
+import java.util.List;
+
+/**
+ * Service implementation for {@link SearchService}.
+ *
+ * Suggestions are answered entirely from the in-memory {@link SuggestionIndex};
+ * no database access happens on the request path.
+ *
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private static final String INVALID_LIMIT = "Limit must be between 1 and %d";
+
+    private final SuggestionIndex suggestionIndex;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @Override
+    public List<SuggestionDto> suggest(String query, int limit) {
+        if (limit < 1 || limit > SuggestionIndex.MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException(String.format(INVALID_LIMIT, SuggestionIndex.MAX_SUGGESTIONS));
+        }
+        return suggestionIndex.suggest(query, limit);
+    }
+}
@@ -1,27 +1,41 @@
 package com.ivay.service.impl;
 
+import jakarta.transaction.Transactional;
+
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.ivay.dtos.productdto.PaginatedProductResponseDto;
+import com.ivay.dtos.supplierdto.SupplierProductsResponseDto;
 import com.ivay.dtos.supplierdto.SupplierRequestDto;
 import com.ivay.dtos.supplierdto.SupplierResponseDto;
+import com.ivay.dtos.supplierdto.SupplierStockSummaryDto;
+import com.ivay.entity.CatalogChange;
 import com.ivay.entity.Supplier;
 import com.ivay.exception.ResourceNotFoundException;
 import com.ivay.mappers.SupplierMapper;
+import com.ivay.repository.ProductRepository;
+import com.ivay.repository.ProductSpecifications;
 import com.ivay.repository.SupplierRepository;
+import com.ivay.search.SuggestionIndex;
+import com.ivay.service.CatalogService;
 import com.ivay.service.SupplierService;
 
 /**
  * Implementation of {@link SupplierService} for managing supplier data.
  *
- * Provides methods to create, read, update, and delete suppliers.
+ * Provides methods to create, read, update, and delete suppliers,
+ * and to list the products of a supplier with its stock aggregates.
+ * Name changes schedule a rebuild of the search {@link SuggestionIndex}, and
+ * every write is recorded in the catalog change feed.
  *
  * @since 1.0.0
  */
 @Service
+@Transactional
 public class SupplierServiceImpl implements SupplierService {
 
     @Autowired
@@ -30,6 +44,18 @@ public class SupplierServiceImpl implements SupplierService {
     @Autowired
     private SupplierMapper supplierMapper;
 
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductListingQuery productListingQuery;
+
     /**
      * Retrieves all suppliers in the system.
      *
@@ -67,6 +93,8 @@ public class SupplierServiceImpl implements SupplierService {
     public SupplierResponseDto createSupplier(SupplierRequestDto supplierRequestDto) {
         Supplier supplier = supplierMapper.toSupplier(supplierRequestDto);
         Supplier saved = supplierRepository.save(supplier);
+        catalogService.recordUpserts(CatalogChange.SUPPLIER, List.of(saved.getId()));
+        suggestionIndex.markStale();
         return supplierMapper.toSupplierResponse(saved);
     }
 
@@ -89,6 +117,8 @@ public class SupplierServiceImpl implements SupplierService {
         existing.setPhone(supplierRequestDto.getPhone());
         existing.setImageUrl(supplierRequestDto.getImageUrl());
         Supplier updated = supplierRepository.save(existing);
+        catalogService.recordUpserts(CatalogChange.SUPPLIER, List.of(updated.getId()));
+        suggestionIndex.markStale();
         return supplierMapper.toSupplierResponse(updated);
     }
 
@@ -104,5 +134,49 @@ public class SupplierServiceImpl implements SupplierService {
             .orElseThrow(() -> new ResourceNotFoundException(
                 "Supplier with id: " + id + " not found"));
         supplierRepository.delete(supplier);
+        catalogService.recordDeletion(CatalogChange.SUPPLIER, id);
+        suggestionIndex.markStale();
+    }
+
+    /**
+     * Retrieves one page of the products provided by a supplier.
+     *
+     * The page is read by {@link ProductListingQuery} over the
+     * (supplier, sort field, id) indexes, and the aggregates by one SQL
+     * query over the supplier's products; its count doubles as the total
+     * when {@code includeTotal} is set.
+     *
+     * @param supplierId   the identifier of the supplier
+     * @param page         zero-based page index, ignored when {@code after} is given
+     * @param size         number of products per page
+     * @param sort         sort field: "id", "price" or "name"
+     * @param direction    sort direction: "asc" or "desc"
+     * @param after        opaque cursor from a previous response, or null
+     * @param includeTotal whether to compute totalElements and totalPages
+     * @return the {@link SupplierProductsResponseDto} with the page and the aggregates
+     * @throws ResourceNotFoundException if no supplier exists with the given id,
+     *                                   or the page index is out of range
+     * @throws IllegalArgumentException  if the page, sort field, direction or cursor is invalid
+     */
+    @Override
+    public SupplierProductsResponseDto getProductsBySupplierId(
+            Long supplierId, int page, int size, String sort, String direction, String after, boolean includeTotal) {
+        if (!supplierRepository.existsById(supplierId)) {
+            throw new ResourceNotFoundException("Supplier with id: " + supplierId + " not found");
+        }
+
+        PaginatedProductResponseDto products = productListingQuery.read(
+            ProductSpecifications.fromSupplier(supplierId), page, size, sort, direction, after, false);
+        SupplierStockSummaryDto summary = productRepository.summarizeStockBySupplier(supplierId);
+        if (includeTotal) {
+            products.setTotalElements(summary.getProductCount());
+            products.setTotalPages((int) ((summary.getProductCount() + size - 1) / size));
+        }
+
+        SupplierProductsResponseDto response = new SupplierProductsResponseDto();
+        response.setSupplierId(supplierId);
+        response.setSummary(summary);
+        response.setProducts(products);
+        return response;
     }
 }
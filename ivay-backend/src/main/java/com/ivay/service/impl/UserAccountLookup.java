@@ -0,0 +1,49 @@
+package com.ivay.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import com.ivay.cache.UserAccountCache;
+import com.ivay.dtos.userdto.UserAccountDto;
+import com.ivay.repository.UserRepository;
+
+import java.util.Optional;
+
+/**
+ * Resolves user accounts by username or id through the {@link UserAccountCache}.
+ *
+ * A miss loads the user and its role with a single query. Callers that need
+ * a managed entity, e.g. to attach it to another one or to modify it, must
+ * still read it from the {@link UserRepository}.
+ *
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAccountLookup {
+
+    private final UserAccountCache userAccountCache;
+    private final UserRepository userRepository;
+
+    /**
+     * Finds the account with the given username.
+     *
+     * @param username the username to look up
+     * @return the account, or empty if no user has that name
+     */
+    public Optional<UserAccountDto> findByName(String username) {
+        return Optional.ofNullable(userAccountCache.getByName(username,
+            name -> userRepository.findWithRoleByName(name).map(UserAccountDto::of).orElse(null)));
+    }
+
+    /**
+     * Finds the account with the given id.
+     *
+     * @param userId the identifier to look up
+     * @return the account, or empty if no user has that id
+     */
+    public Optional<UserAccountDto> findById(Long userId) {
+        return Optional.ofNullable(userAccountCache.getById(userId,
+            id -> userRepository.findWithRoleById(id).map(UserAccountDto::of).orElse(null)));
+    }
+}
@@ -14,23 +14,26 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.ivay.dtos.auth.AuthLoginRequestDto;
 import com.ivay.dtos.auth.AuthResponseDto;
+import com.ivay.dtos.auth.LoginStatsDto;
+import com.ivay.dtos.userdto.UserAccountDto;
 import com.ivay.entity.Role;
-import com.ivay.entity.UserEntity;
+import com.ivay.exception.LoginCapacityExceededException;
 import com.ivay.exception.ResourceNotFoundException;
+import com.ivay.exception.TooManyLoginAttemptsException;
 import com.ivay.jwt.JwtTokenProvider;
+import com.ivay.jwt.SecurityVersionRegistry;
 import com.ivay.repository.UserRepository;
 
 /**
  * Service that integrates Spring Security user loading and authentication logic.
  * 
- * This implementation retrieves user details from the database, verifies credentials,
- * and issues JWT tokens upon successful login.
+ * This implementation retrieves user details through the {@link UserAccountLookup}
+ * cache, verifies credentials against the database, and issues JWT tokens upon
+ * successful login.
  *
  * @since 1.0.0
  */
@@ -41,11 +44,20 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private UserAccountLookup userAccountLookup;
+
+    @Autowired
+    private PasswordVerifier passwordVerifier;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
 
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
     /**
      * Converts a {@link Role} entity into a collection of Spring Security authorities.
      *
@@ -53,13 +65,23 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      * @return a collection containing a {@link SimpleGrantedAuthority} prefixed with "ROLE_"
      */
     public Collection<GrantedAuthority> mapToAuthorities(Role role) {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + role.getRoleName()));
+        return mapToAuthorities(role.getRoleName());
+    }
+
+    /**
+     * Converts a role name, as carried by tokens, into a collection of Spring Security authorities.
+     *
+     * @param roleName the name of the role, without prefix
+     * @return a collection containing a {@link SimpleGrantedAuthority} prefixed with "ROLE_"
+     */
+    public Collection<GrantedAuthority> mapToAuthorities(String roleName) {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + roleName));
     }
 
     /**
      * Loads the user identified by the given username.
      *
-     * Retrieves the {@link UserEntity} from the repository and maps it to Spring Security's
+     * Retrieves the cached {@link UserAccountDto} and maps it to Spring Security's
      * {@link UserDetails}, including account status flags and authorities.
      *
      * @param username the username to look up
@@ -67,41 +89,58 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      * @throws UsernameNotFoundException if no user is found with the given username
      */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserEntity userEntity = userRepository.findUserEntityByName(username)
-            .orElseThrow(() -> new ResourceNotFoundException("Username: " + username + " not found!"));
+        return toUserDetails(userAccountLookup.findByName(username)
+            .orElseThrow(() -> usernameNotFound(username)));
+    }
 
+    /**
+     * Builds the exception thrown when no user has the given username.
+     *
+     * @param username the username that was looked up
+     * @return the exception to throw
+     */
+    private static ResourceNotFoundException usernameNotFound(String username) {
+        return new ResourceNotFoundException("Username: " + username + " not found!");
+    }
+
+    /**
+     * Maps a user account to Spring Security's {@link UserDetails}.
+     *
+     * @param account the user
+     * @return the user details with status flags and authorities
+     */
+    private UserDetails toUserDetails(UserAccountDto account) {
         return new User(
-            userEntity.getName(),
-            userEntity.getPassword(),
-            userEntity.getIsEnabled(),
-            userEntity.getAccountNoExpired(),
-            userEntity.getCredentialNoExpired(),
-            userEntity.getAccountNoLocked(),
-            mapToAuthorities(userEntity.getRole())
+            account.getName(),
+            account.getPassword(),
+            account.getIsEnabled(),
+            account.getAccountNoExpired(),
+            account.getCredentialNoExpired(),
+            account.getAccountNoLocked(),
+            mapToAuthorities(account.getRoleName())
         );
     }
 
     /**
      * Performs credential validation against the stored user details.
      *
-     * Compares the raw password to the encoded password from the user details.
+     * Compares the raw password to the encoded password from the user details
+     * on the {@link PasswordVerifier} executor.
      *
-     * @param username the username to authenticate
-     * @param password the raw password provided by the client
+     * @param userDetails the user to authenticate
+     * @param password    the raw password provided by the client
      * @return an {@link Authentication} token upon successful validation
-     * @throws BadCredentialsException if the provided password does not match
+     * @throws BadCredentialsException        if the provided password does not match
+     * @throws LoginCapacityExceededException if the verifier is saturated
      */
-    private Authentication authenticate(String username, String password) {
-        UserDetails userDetails = this.loadUserByUsername(username);
-
-        if (!passwordEncoder.matches(password, userDetails.getPassword())) {
+    private Authentication authenticate(UserDetails userDetails, String password) {
+        if (!passwordVerifier.matches(password, userDetails.getPassword())) {
             throw new BadCredentialsException("Invalid username or password");
         }
 
         return new UsernamePasswordAuthenticationToken(
-            username,
+            userDetails.getUsername(),
             userDetails.getPassword(),
             userDetails.getAuthorities()
         );
@@ -110,20 +149,49 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     /**
      * Processes a login request and issues a JWT upon successful authentication.
      *
+     * Takes one attempt from the {@link LoginThrottle} limits of the client
+     * address and the username first. Then reads the user and its role from
+     * the database with one query, bypassing the cache so a password changed
+     * on another instance is honored. No transaction is held, so logins
+     * waiting for the password verifier do not tie up database connections.
      * Validates credentials, sets the authentication context,
-     * and generates a token with {@link JwtTokenProvider}.
+     * and generates a token with {@link JwtTokenProvider} carrying the user's
+     * id, role and stored security version from {@link SecurityVersionRegistry}.
      *
      * @param authLoginRequest the login request containing username and password
+     * @param clientAddress    the remote address of the client
      * @return an {@link AuthResponseDto} containing the issued JWT
+     * @throws TooManyLoginAttemptsException  if the address or username is throttled
+     * @throws LoginCapacityExceededException if the password verifier is saturated
      */
-    public AuthResponseDto login(AuthLoginRequestDto authLoginRequest) {
-        Authentication authentication = authenticate(
-            authLoginRequest.getUsername(),
-            authLoginRequest.getPassword()
-        );
+    public AuthResponseDto login(AuthLoginRequestDto authLoginRequest, String clientAddress) {
+        String username = authLoginRequest.getUsername();
+        loginThrottle.acquire(clientAddress, username);
+        UserAccountDto account = userRepository.findWithRoleByName(username)
+            .map(UserAccountDto::of)
+            .orElseThrow(() -> usernameNotFound(username));
+        Authentication authentication = authenticate(toUserDetails(account), authLoginRequest.getPassword());
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String accessToken = jwtTokenProvider.generateToken(authentication);
+        String accessToken = jwtTokenProvider.generateToken(
+            account.getName(),
+            account.getId(),
+            account.getRoleName(),
+            securityVersionRegistry.load(account.getId())
+        );
         return new AuthResponseDto(accessToken);
     }
+
+    /**
+     * Reports the load of the login pipeline: password verifier queue and
+     * hash latency, and throttled attempts.
+     *
+     * @return a snapshot of the login statistics
+     */
+    public LoginStatsDto getLoginStats() {
+        LoginStatsDto stats = new LoginStatsDto();
+        passwordVerifier.fillStats(stats);
+        loginThrottle.fillStats(stats);
+        return stats;
+    }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -14,17 +15,24 @@ import com.ivay.dtos.userdto.UserRequestDto;
 import com.ivay.dtos.userdto.UserResponseDto;
 import com.ivay.entity.Role;
 import com.ivay.entity.UserEntity;
+import com.ivay.event.UserChangedEvent;
 import com.ivay.exception.ResourceNotFoundException;
+import com.ivay.jwt.SecurityVersionRegistry;
 import com.ivay.mappers.UserMapper;
 import com.ivay.repository.RoleRepository;
 import com.ivay.repository.UserRepository;
 import com.ivay.service.UserEntityService;
 
+import jakarta.transaction.Transactional;
+
 /**
  * Service implementation for managing user accounts.
  *
  * Implements methods to create, read, update and delete users,
  * as well as updating profile information and changing passwords.
+ * Single-user reads go through the {@link UserAccountLookup} cache, and
+ * every change to an account publishes a {@link UserChangedEvent} so the
+ * caches holding it drop their copies.
  *
  * @since 1.0.0
  */
@@ -43,6 +51,15 @@ public class UserEntityServiceImpl implements UserEntityService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserAccountLookup userAccountLookup;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
     /**
      * Retrieves all users in the system.
      *
@@ -65,9 +82,9 @@ public class UserEntityServiceImpl implements UserEntityService {
      */
     @Override
     public UserResponseDto getUserById(Long id) {
-        UserEntity user = userRepository.findById(id)
+        return userAccountLookup.findById(id)
+            .map(userMapper::toUserResponse)
             .orElseThrow(() -> new ResourceNotFoundException("User with id: " + id + " not found"));
-        return userMapper.toUserResponse(user);
     }
 
     /**
@@ -103,6 +120,8 @@ public class UserEntityServiceImpl implements UserEntityService {
      * Updates an existing user account.
      *
      * Updates all fields and optionally re-encodes the password if provided.
+     * The user's tokens are revoked, since their name, status or role claims
+     * may no longer hold.
      *
      * @param id identifier of the user to update
      * @param userRequestDto new data for the user
@@ -110,6 +129,7 @@ public class UserEntityServiceImpl implements UserEntityService {
      * @throws ResourceNotFoundException if user or role is not found
      */
     @Override
+    @Transactional
     public UserResponseDto updateUser(Long id, UserRequestDto userRequestDto) {
         UserEntity existingUser = userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User with id: " + id + " not found"));
@@ -118,6 +138,7 @@ public class UserEntityServiceImpl implements UserEntityService {
             .orElseThrow(() -> new ResourceNotFoundException(
                 "Role with id: " + userRequestDto.getRoleId() + " not found"));
 
+        String previousName = existingUser.getName();
         existingUser.setName(userRequestDto.getName());
         existingUser.setFullName(userRequestDto.getFullName());
         existingUser.setEmail(userRequestDto.getEmail());
@@ -135,6 +156,8 @@ public class UserEntityServiceImpl implements UserEntityService {
         }
 
         UserEntity updated = userRepository.save(existingUser);
+        securityVersionRegistry.revokeUser(id);
+        eventPublisher.publishEvent(new UserChangedEvent(id, previousName, updated.getName()));
         return userMapper.toUserResponse(updated);
     }
 
@@ -145,10 +168,13 @@ public class UserEntityServiceImpl implements UserEntityService {
      * @throws ResourceNotFoundException if no user is found
      */
     @Override
+    @Transactional
     public void deleteUser(Long id) {
         UserEntity user = userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User with id: " + id + " not found"));
         userRepository.delete(user);
+        securityVersionRegistry.revokeUser(id);
+        eventPublisher.publishEvent(new UserChangedEvent(id, user.getName(), user.getName()));
     }
 
     /**
@@ -160,9 +186,9 @@ public class UserEntityServiceImpl implements UserEntityService {
      */
     @Override
     public UserResponseDto getByUsername(String username) {
-        UserEntity currentUser = userRepository.findUserEntityByName(username)
+        return userAccountLookup.findByName(username)
+            .map(userMapper::toUserResponse)
             .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
-        return userMapper.toUserResponse(currentUser);
     }
 
     /**
@@ -176,6 +202,7 @@ public class UserEntityServiceImpl implements UserEntityService {
      * @throws ResourceNotFoundException if no user is found
      */
     @Override
+    @Transactional
     public UserResponseDto updateProfile(String username, UpdateProfileRequestDto dto) {
         UserEntity existingUser = userRepository.findUserEntityByName(username)
             .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
@@ -187,6 +214,10 @@ public class UserEntityServiceImpl implements UserEntityService {
         existingUser.setUserAddress(dto.getUserAddress());
 
         UserEntity savedUser = userRepository.save(existingUser);
+        if (!username.equals(savedUser.getName())) {
+            securityVersionRegistry.revokeUser(savedUser.getId());
+        }
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), username, savedUser.getName()));
         return userMapper.toUserResponse(savedUser);
     }
 
@@ -211,5 +242,6 @@ public class UserEntityServiceImpl implements UserEntityService {
 
         user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), username, username));
     }
 }
@@ -0,0 +1,52 @@
+package com.ivay.util;
+
+import java.time.Duration;
+
+/**
+ * Thread-safe token bucket for rate limiting.
+ *
+ * Starts full with {@code capacity} tokens and refills continuously at
+ * {@code capacity} tokens per {@code period}, so a client may burst up to
+ * the capacity and then proceeds at the sustained rate.
+ *
+ * @since 1.0.0
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final long nanosPerToken;
+
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * @param capacity maximum number of tokens, at least one
+     * @param period   time to refill an empty bucket
+     */
+    public TokenBucket(long capacity, Duration period) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Token bucket capacity must be at least one");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, period.toNanos() / capacity);
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @return {@link Duration#ZERO} if a token was taken, otherwise the time
+     *         until the next token becomes available
+     */
+    public synchronized Duration tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (double) (now - refilledAt) / nanosPerToken);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) Math.ceil((1 - tokens) * nanosPerToken));
+    }
+}
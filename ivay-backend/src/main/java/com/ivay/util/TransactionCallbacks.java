@@ -0,0 +1,38 @@
+package com.ivay.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers to defer side effects until the surrounding transaction commits.
+ *
+ * Used to keep in-memory structures (caches, search indexes) in line with
+ * the database: applying a change before commit would expose data that may
+ * still roll back, or let a concurrent reader reload the old rows.
+ *
+ * @since 1.0.0
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs the action after the current transaction commits, or right away
+     * if there is no transaction. Nothing runs if the transaction rolls back.
+     *
+     * @param action the side effect to run
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -15,38 +15,38 @@ INSERT INTO addresses (user_id, address, locality, province, zip_code) VALUES
 (2, '21 Shopping Street, Apt 2B, User Town', 'Locality3', 'Province3', '38003'),
 (4, '40 Buyer Boulevard, Marketville', 'Locality4', 'Province4', '38004');
 
-INSERT INTO products (name, description, price, stock, category_id, supplier_id, discount) VALUES
-('Smart Laptop X1', 'Latest generation laptop with AI features.', 1499.99, 50, 1, 1, 0.05), -- 5% discount
-('The Coding Manual', 'Comprehensive guide to modern programming.', 49.95, 200, 2, 2, 0.00),
-('Wireless Ergonomic Mouse', 'Comfortable mouse for long hours.', 35.50, 150, 1, 1, 0.10), -- 10% discount
-('Organic Cotton T-Shirt', 'Soft and sustainable plain t-shirt.', 24.99, 300, 3, 3, 0.00),
-('Bluetooth Headphones', 'Noise-cancelling over-ear headphones.', 199.00, 80, 1, 1, 0.00),
-('Classic Science Fiction', 'A collection of short stories.', 19.95, 120, 2, 2, 0.00),
-('Smart Coffee Maker', 'Wi-Fi enabled coffee maker.', 89.99, 60, 4, NULL, 0.15); -- 15% discount, No specific supplier listed
+INSERT INTO products (id, name, description, price, stock, category_id, supplier_id, discount) VALUES
+(1, 'Smart Laptop X1', 'Latest generation laptop with AI features.', 1499.99, 50, 1, 1, 0.05), -- 5% discount
+(2, 'The Coding Manual', 'Comprehensive guide to modern programming.', 49.95, 200, 2, 2, 0.00),
+(3, 'Wireless Ergonomic Mouse', 'Comfortable mouse for long hours.', 35.50, 150, 1, 1, 0.10), -- 10% discount
+(4, 'Organic Cotton T-Shirt', 'Soft and sustainable plain t-shirt.', 24.99, 300, 3, 3, 0.00),
+(5, 'Bluetooth Headphones', 'Noise-cancelling over-ear headphones.', 199.00, 80, 1, 1, 0.00),
+(6, 'Classic Science Fiction', 'A collection of short stories.', 19.95, 120, 2, 2, 0.00),
+(7, 'Smart Coffee Maker', 'Wi-Fi enabled coffee maker.', 89.99, 60, 4, NULL, 0.15); -- 15% discount, No specific supplier listed
 
 
-INSERT INTO orders (user_id, bill_date, payment_method, global_discount, total_amount, total_amount_discounted, tax) VALUES
-(2, '2023-10-26 10:30:00', 'Credit Card', 0.00, 1535.49, 1453.24, 95), 
-(4, '2023-10-27 14:00:00', 'PayPal', 0.05, 223.99, 212.79, 15), 
-(2, '2023-10-28 09:15:00', 'Credit Card', 0.00, 69.90, 69.90, 8); 
+INSERT INTO orders (id, user_id, bill_date, payment_method, global_discount, total_amount, total_amount_discounted, tax) VALUES
+(1, 2, '2023-10-26 10:30:00', 'Credit Card', 0.00, 1535.49, 1453.24, 95), 
+(2, 4, '2023-10-27 14:00:00', 'PayPal', 0.05, 223.99, 212.79, 15), 
+(3, 2, '2023-10-28 09:15:00', 'Credit Card', 0.00, 69.90, 69.90, 8); 
 
 
-INSERT INTO order_items (order_id, product_id, quantity, discount, price, total_price) VALUES
-(1, 1, 1, 0.05, 1499.99, 1424.99),
-(1, 3, 1, 0.10, 35.50, 31.95);
+INSERT INTO order_items (id, order_id, product_id, quantity, discount, price, total_price) VALUES
+(1, 1, 1, 1, 0.05, 1499.99, 1424.99),
+(2, 1, 3, 1, 0.10, 35.50, 31.95);
 
 
-INSERT INTO order_items (order_id, product_id, quantity, discount, price, total_price) VALUES
-(2, 5, 1, 0.00, 199.00, 199.00),
-(2, 4, 1, 0.00, 24.99, 24.99); 
+INSERT INTO order_items (id, order_id, product_id, quantity, discount, price, total_price) VALUES
+(3, 2, 5, 1, 0.00, 199.00, 199.00),
+(4, 2, 4, 1, 0.00, 24.99, 24.99); 
 
-INSERT INTO order_items (order_id, product_id, quantity, discount, price, total_price) VALUES
-(3, 2, 1, 0.00, 49.95, 49.95),
-(3, 6, 1, 0.00, 19.95, 19.95);
+INSERT INTO order_items (id, order_id, product_id, quantity, discount, price, total_price) VALUES
+(5, 3, 2, 1, 0.00, 49.95, 49.95),
+(6, 3, 6, 1, 0.00, 19.95, 19.95);
 
-INSERT INTO cart_items (user_id, product_id, quantity) VALUES
-(2, 7, 1),
-(2, 4, 2);
+INSERT INTO cart_items (id, user_id, product_id, quantity) VALUES
+(1, 2, 7, 1),
+(2, 2, 4, 2);
 
-INSERT INTO cart_items (user_id, product_id, quantity) VALUES
-(4, 1, 1);
\ No newline at end of file
+INSERT INTO cart_items (id, user_id, product_id, quantity) VALUES
+(3, 4, 1, 1);
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.ivay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ivay.cache.VerifiedTokenCache;
+import com.ivay.jwt.JwtAuthenticationFilter;
+import com.ivay.jwt.JwtTokenProvider;
+import com.ivay.jwt.SecurityVersionRegistry;
+import com.ivay.service.impl.UserDetailsServiceImpl;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Runs bearer tokens through the JWT filter and checks that valid tokens
+ * authenticate the request, while incomplete or expired ones leave it
+ * anonymous and still reach the rest of the chain.
+ */
+class JwtAuthenticationFilterTests {
+
+	private static final byte[] KEY = new byte[32];
+
+	private final SecretKey signingKey = Keys.hmacShaKeyFor(KEY);
+	private JwtAuthenticationFilter filter;
+
+	@BeforeEach
+	void createFilter() {
+		UserDetailsServiceImpl userDetailsService = mock(UserDetailsServiceImpl.class);
+		when(userDetailsService.mapToAuthorities("CLIENT"))
+			.thenReturn(List.of(new SimpleGrantedAuthority("ROLE_CLIENT")));
+		SecurityVersionRegistry securityVersionRegistry = mock(SecurityVersionRegistry.class);
+		when(securityVersionRegistry.isCurrent(any(), anyLong())).thenReturn(true);
+
+		filter = new JwtAuthenticationFilter();
+		ReflectionTestUtils.setField(filter, "jwtTokenProvider",
+			new JwtTokenProvider(Base64.getEncoder().encodeToString(KEY)));
+		ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+		ReflectionTestUtils.setField(filter, "verifiedTokenCache", new VerifiedTokenCache(100, Duration.ofMinutes(5)));
+		ReflectionTestUtils.setField(filter, "securityVersionRegistry", securityVersionRegistry);
+	}
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void validTokenAuthenticatesRequest() throws Exception {
+		MockFilterChain chain = filter(token(new Date(System.currentTimeMillis() + 60_000)).compact());
+
+		assertNotNull(chain.getRequest(), "the chain should continue");
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertNotNull(authentication);
+		assertEquals("alice", authentication.getName());
+	}
+
+	@Test
+	void tokenWithoutSecurityVersionLeavesRequestAnonymous() throws Exception {
+		String token = Jwts.builder()
+			.subject("alice")
+			.claim(JwtTokenProvider.CLAIM_USER_ID, 1L)
+			.claim(JwtTokenProvider.CLAIM_ROLE, "CLIENT")
+			.expiration(new Date(System.currentTimeMillis() + 60_000))
+			.signWith(signingKey, Jwts.SIG.HS256)
+			.compact();
+
+		MockFilterChain chain = filter(token);
+
+		assertNotNull(chain.getRequest(), "the chain should continue");
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+	}
+
+	@Test
+	void expiredTokenLeavesRequestAnonymous() throws Exception {
+		MockFilterChain chain = filter(token(new Date(System.currentTimeMillis() - 60_000)).compact());
+
+		assertNotNull(chain.getRequest(), "the chain should continue");
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+	}
+
+	private JwtBuilder token(Date expiration) {
+		return Jwts.builder()
+			.subject("alice")
+			.claim(JwtTokenProvider.CLAIM_USER_ID, 1L)
+			.claim(JwtTokenProvider.CLAIM_ROLE, "CLIENT")
+			.claim(JwtTokenProvider.CLAIM_SECURITY_VERSION, 0L)
+			.expiration(expiration)
+			.signWith(signingKey, Jwts.SIG.HS256);
+	}
+
+	private MockFilterChain filter(String token) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request, new MockHttpServletResponse(), chain);
+		return chain;
+	}
+}
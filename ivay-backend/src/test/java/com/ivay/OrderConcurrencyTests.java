@@ -0,0 +1,159 @@
+package com.ivay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.ivay.dtos.orderdto.OrderResponseDto;
+import com.ivay.dtos.orderdto.create.CreateOrderRequestDto;
+import com.ivay.dtos.orderitemdto.create.CreateOrderItemRequestDto;
+import com.ivay.entity.Product;
+import com.ivay.entity.UserEntity;
+import com.ivay.exception.InsufficientStockException;
+import com.ivay.repository.ProductRepository;
+import com.ivay.repository.UserRepository;
+import com.ivay.service.OrderService;
+
+/**
+ * Places overlapping multi-item orders from many threads against products
+ * with limited stock, and checks that stock never goes negative and drops
+ * by exactly the quantities of the orders that succeeded.
+ */
+@SpringBootTest
+class OrderConcurrencyTests {
+
+	private static final int INITIAL_STOCK = 10;
+	private static final int PRODUCTS = 3;
+	private static final int ORDERS = 40;
+	private static final int THREADS = 8;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private UserEntity user;
+	private final List<Long> productIds = new ArrayList<>();
+	private final ConcurrentLinkedQueue<Long> orderIds = new ConcurrentLinkedQueue<>();
+
+	@BeforeEach
+	void createUserAndProducts() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		user = userRepository.save(UserEntity.builder()
+			.name("concurrency-" + suffix)
+			.isEnabled(true)
+			.accountNoExpired(true)
+			.accountNoLocked(true)
+			.credentialNoExpired(true)
+			.build());
+		for (int i = 0; i < PRODUCTS; i++) {
+			Product product = new Product();
+			product.setName("concurrency-" + suffix + "-" + i);
+			product.setPrice(BigDecimal.TEN);
+			product.setStock(INITIAL_STOCK);
+			productIds.add(productRepository.save(product).getId());
+		}
+	}
+
+	@AfterEach
+	void deleteOrdersAndProducts() {
+		orderIds.forEach(orderService::deleteOrder);
+		productRepository.deleteAllById(productIds);
+		userRepository.delete(user);
+	}
+
+	@Test
+	void concurrentOrdersNeverOversellStock() throws Exception {
+		Map<Long, AtomicInteger> sold = new HashMap<>();
+		productIds.forEach(id -> sold.put(id, new AtomicInteger()));
+		AtomicInteger rejected = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < ORDERS; i++) {
+				CreateOrderRequestDto request = overlappingOrder(i);
+				results.add(executor.submit(() -> {
+					start.await();
+					try {
+						OrderResponseDto order = orderService.createOrder(request);
+						orderIds.add(order.getId());
+						request.getItems().forEach(item ->
+							sold.get(item.getProductId()).addAndGet(item.getQuantity()));
+					} catch (InsufficientStockException ex) {
+						rejected.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> result : results) {
+				result.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertTrue(rejected.get() > 0, "demand should exceed the available stock");
+		assertFalse(orderIds.isEmpty(), "some orders should succeed");
+		for (Long productId : productIds) {
+			int stock = productRepository.findById(productId).orElseThrow().getStock();
+			assertTrue(stock >= 0, "stock of product " + productId + " went negative: " + stock);
+			assertEquals(INITIAL_STOCK - sold.get(productId).get(), stock,
+				"stock of product " + productId + " does not match the successful orders");
+		}
+	}
+
+	/**
+	 * Builds the i-th order: two or three lines over the shared products,
+	 * listed in a rotating order so that transactions request them in
+	 * different sequences, sometimes repeating a product on two lines.
+	 */
+	private CreateOrderRequestDto overlappingOrder(int i) {
+		List<CreateOrderItemRequestDto> items = new ArrayList<>();
+		int lines = 2 + i % 2;
+		for (int line = 0; line < lines; line++) {
+			CreateOrderItemRequestDto item = new CreateOrderItemRequestDto();
+			item.setProductId(productIds.get((i + line) % PRODUCTS));
+			item.setQuantity(1 + (i + line) % 3);
+			items.add(item);
+		}
+		if (i % 5 == 0) {
+			CreateOrderItemRequestDto repeated = new CreateOrderItemRequestDto();
+			repeated.setProductId(items.get(0).getProductId());
+			repeated.setQuantity(1);
+			items.add(repeated);
+		}
+
+		CreateOrderRequestDto request = new CreateOrderRequestDto();
+		request.setUserId(user.getId());
+		request.setPaymentMethod("CREDIT_CARD");
+		request.setItems(items);
+		return request;
+	}
+}
@@ -0,0 +1,65 @@
+package com.ivay;
+
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ivay.cache.CatalogHttpCaching;
+import com.ivay.cache.VerifiedTokenCache;
+import com.ivay.configuration.SecurityConfig;
+import com.ivay.controller.ProductController;
+import com.ivay.jwt.JwtTokenProvider;
+import com.ivay.jwt.SecurityVersionRegistry;
+import com.ivay.service.ProductService;
+import com.ivay.service.impl.ProductExportLimiter;
+import com.ivay.service.impl.UserDetailsServiceImpl;
+
+/**
+ * Checks that the full-catalog export is not reachable anonymously, even
+ * though the public "/api/products/{productId}" pattern also matches its path.
+ */
+@WebMvcTest(ProductController.class)
+@Import(SecurityConfig.class)
+class ProductExportSecurityTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private ProductService productService;
+
+	@MockitoBean
+	private CatalogHttpCaching catalogHttpCaching;
+
+	@MockitoBean
+	private ProductExportLimiter productExportLimiter;
+
+	@MockitoBean
+	private UserDetailsServiceImpl userDetailsService;
+
+	@MockitoBean
+	private JwtTokenProvider jwtTokenProvider;
+
+	@MockitoBean
+	private VerifiedTokenCache verifiedTokenCache;
+
+	@MockitoBean
+	private SecurityVersionRegistry securityVersionRegistry;
+
+	@Test
+	void anonymousExportIsRejected() throws Exception {
+		mockMvc.perform(get("/api/products/export"))
+			.andExpect(status().is(anyOf(is(401), is(403))));
+
+		verifyNoInteractions(productExportLimiter, productService);
+	}
+}
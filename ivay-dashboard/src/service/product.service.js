@@ -102,7 +102,7 @@ const getCartItemsByProductId = async (productId) => {
  */
 const getProductsPaginated = async (page = 0, size = 20) => {
   const response = await axios.get(`${PRODUCT_API_URL}/paginated`, {
-    params: { page, size },
+    params: { page, size, includeTotal: true },
   });
   return response.data.data;
 };
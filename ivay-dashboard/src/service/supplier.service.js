@@ -67,12 +67,17 @@ const deleteSupplier = async (supplierId) => {
 };
 
 /**
- * Fetches all products supplied by a specific supplier.
+ * Fetches one page of the products supplied by a specific supplier,
+ * with the supplier's product count, stock units and stock value.
  * @param {number|string} supplierId - The ID of the supplier.
- * @returns {Promise<Array<Object>>} Array of product response DTOs.
+ * @param {number} [page=0] - The zero-based page index.
+ * @param {number} [size=20] - The number of products per page.
+ * @returns {Promise<Object>} Object with supplierId, summary and the paginated products.
  */
-const getProductsBySupplierId = async (supplierId) => {
-    const response = await axios.get(`${SUPPLIER_API_URL}/${supplierId}/products`);
+const getProductsBySupplierId = async (supplierId, page = 0, size = 20) => {
+    const response = await axios.get(`${SUPPLIER_API_URL}/${supplierId}/products`, {
+        params: { page, size, includeTotal: true },
+    });
     return response.data.data;
 };
 
@@ -27,6 +27,14 @@ import { layout } from '../../constants/styles';
 
 const PRODUCTS_PER_PAGE = 12;
 
+/* Server-side sort field and direction for each sorting option. */
+const SERVER_SORT = {
+    default: ['id', 'asc'],
+    price_asc: ['price', 'asc'],
+    price_desc: ['price', 'desc'],
+    name_asc: ['name', 'asc'],
+};
+
 /**
  * Renders a page displaying a list of products. Products can be filtered
  * by category based on URL parameters or query strings. Includes pagination
@@ -66,8 +74,9 @@ const ProductsPage = () => {
                     } catch (catError) {
                         console.warn(`Could not fetch details for category ID/slug: ${effectiveCategoryId}`, catError);
                     }
-                    const allCategoryProducts = await CategoryService.getProductsByCategoryId(effectiveCategoryId);
-                    fetchedProductsData = { content: allCategoryProducts, totalPages: Math.ceil(allCategoryProducts.length / PRODUCTS_PER_PAGE), totalElements: allCategoryProducts.length };
+                    const [sortField, sortDirection] = SERVER_SORT[sortBy] || SERVER_SORT.default;
+                    fetchedProductsData = await CategoryService.getProductsByCategoryId(
+                        effectiveCategoryId, page - 1, PRODUCTS_PER_PAGE, sortField, sortDirection);
 
                 } else {
                     fetchedProductsData = await ProductService.getProductsPaginated(page - 1, PRODUCTS_PER_PAGE);
@@ -123,12 +132,8 @@ const ProductsPage = () => {
                 break;
         }
 
-        if (effectiveCategoryId && products.length > 0) {
-            const startIndex = (page - 1) * PRODUCTS_PER_PAGE;
-            return sortedProducts.slice(startIndex, startIndex + PRODUCTS_PER_PAGE);
-        }
         return sortedProducts;
-    }, [products, sortBy, page, effectiveCategoryId]);
+    }, [products, sortBy]);
 
 
     const pageTitle = category ? `Categoría: ${category.name}` : "Todos los productos";
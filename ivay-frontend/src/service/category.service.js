@@ -64,12 +64,18 @@ const deleteCategory = async (categoryId) => {
 };
 
 /**
- * Fetches products associated with a specific category ID.
+ * Fetches one page of the products associated with a specific category ID.
  * @param {number|string} categoryId - The ID of the category.
- * @returns {Promise<Array>} A promise that resolves to an array of product response DTOs.
+ * @param {number} [page=0] - The zero-based page index.
+ * @param {number} [size=20] - The number of products per page.
+ * @param {string} [sort='id'] - The sort field: id, price or name.
+ * @param {string} [direction='asc'] - The sort direction: asc or desc.
+ * @returns {Promise<Object>} A promise that resolves to the paginated product response DTO.
  */
-const getProductsByCategoryId = async (categoryId) => {
-    const response = await axios.get(`${CATEGORY_API_URL}/${categoryId}/products`);
+const getProductsByCategoryId = async (categoryId, page = 0, size = 20, sort = 'id', direction = 'asc') => {
+    const response = await axios.get(`${CATEGORY_API_URL}/${categoryId}/products`, {
+        params: { page, size, sort, direction, includeTotal: true },
+    });
     return response.data.data;
 };
 